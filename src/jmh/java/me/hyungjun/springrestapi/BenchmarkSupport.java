@@ -0,0 +1,78 @@
+package me.hyungjun.springrestapi;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.hyungjun.springrestapi.events.Event;
+import me.hyungjun.springrestapi.events.EventStatus;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    public static ObjectMapper halObjectMapper() {
+        return halObjectMapper(new JsonFactory());
+    }
+
+    public static ObjectMapper halObjectMapper(JsonFactory factory) {
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        return objectMapper;
+    }
+
+    public static ConfigurableApplicationContext startApplication(String... profiles) {
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .profiles(profiles.length == 0 ? new String[]{"test"} : profiles)
+                .web(WebApplicationType.NONE)
+                .run();
+    }
+
+    public static void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    public static Event event(int id) {
+        return Event.builder()
+                .id(id)
+                .name("event " + id)
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 1, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .location("강남역 D2 스타트업 팩토리")
+                .limitOfEnrollment(10)
+                .offline(true)
+                .eventStatus(EventStatus.DRAFT)
+                .version(0L)
+                .build();
+    }
+
+    public static List<Event> events(int size) {
+        return IntStream.range(0, size).mapToObj(BenchmarkSupport::event).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,86 @@
+package me.hyungjun.springrestapi.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import me.hyungjun.springrestapi.BenchmarkSupport;
+import me.hyungjun.springrestapi.events.EventDto;
+import me.hyungjun.springrestapi.events.EventValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejection traffic end to end: validate an invalid payload, wrap it in {@link ErrorsResource} and render HAL JSON,
+ * from several threads at once as a flood of bad requests would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ErrorsRenderingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private EventValidator eventValidator;
+    private EventDto wrongEventDto;
+    private Errors errors;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkSupport.halObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(Errors.class, new ErrorsSerializer()));
+        eventValidator = new EventValidator(EventValidator.Mode.COLLECT_ALL, List.of());
+        wrongEventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 5, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .basePrice(200)
+                .maxPrice(100)
+                .build();
+        errors = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        eventValidator.validate(wrongEventDto, errors);
+    }
+
+    @Setup(Level.Iteration)
+    public void bindRequest() {
+        BenchmarkSupport.bindRequest();
+    }
+
+    @Benchmark
+    public Link indexLink() {
+        return RequestLinks.indexLink();
+    }
+
+    @Benchmark
+    public byte[] serializeErrors() throws Exception {
+        return objectMapper.writeValueAsBytes(new ErrorsResource(errors));
+    }
+
+    @Benchmark
+    public byte[] rejectRequest() throws Exception {
+        Errors result = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        eventValidator.validate(wrongEventDto, result);
+        return objectMapper.writeValueAsBytes(new ErrorsResource(result));
+    }
+}
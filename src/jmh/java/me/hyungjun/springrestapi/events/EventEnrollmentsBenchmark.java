@@ -0,0 +1,72 @@
+package me.hyungjun.springrestapi.events;
+
+import me.hyungjun.springrestapi.BenchmarkSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventEnrollmentsBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EventEnrollments eventEnrollments;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkSupport.startApplication();
+        eventEnrollments = context.getBean(EventEnrollments.class);
+        Event hotEvent = BenchmarkSupport.event(0);
+        hotEvent.setId(null);
+        hotEvent.setVersion(null);
+        hotEvent.setEventStatus(EventStatus.BEGIN_ENROLLMENT);
+        LocalDateTime now = LocalDateTime.now();
+        hotEvent.setBeginEnrollmentDateTime(now.minusDays(1));
+        hotEvent.setCloseEnrollmentDateTime(now.plusDays(1));
+        hotEvent.setBeginEventDateTime(now.plusDays(2));
+        hotEvent.setEndEventDateTime(now.plusDays(3));
+        hotEvent.setLimitOfEnrollment(Integer.MAX_VALUE);
+        event = context.getBean(EventRepository.class).save(hotEvent);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public EnrollmentResult enroll1() {
+        return eventEnrollments.enroll(event);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public EnrollmentResult enroll8() {
+        return eventEnrollments.enroll(event);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public EnrollmentResult enroll64() {
+        return eventEnrollments.enroll(event);
+    }
+}
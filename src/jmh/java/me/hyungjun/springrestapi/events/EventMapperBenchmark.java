@@ -0,0 +1,72 @@
+package me.hyungjun.springrestapi.events;
+
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private EventMapper eventMapper;
+    private EventDto eventDto;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        eventMapper = Mappers.getMapper(EventMapper.class);
+        eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 1, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .location("강남역 D2 스타트업 팩토리")
+                .limitOfEnrollment(10)
+                .build();
+        event = new Event();
+    }
+
+    @Benchmark
+    public Event modelMapperCreate() {
+        return modelMapper.map(eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event eventMapperCreate() {
+        return eventMapper.toEvent(eventDto);
+    }
+
+    @Benchmark
+    public Event modelMapperUpdate() {
+        modelMapper.map(eventDto, event);
+        return event;
+    }
+
+    @Benchmark
+    public Event eventMapperUpdate() {
+        eventMapper.updateEvent(eventDto, event);
+        return event;
+    }
+}
@@ -0,0 +1,66 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.hyungjun.springrestapi.BenchmarkSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventModelAssemblerBenchmark {
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private Page<Event> page;
+    private PagedResourcesAssembler<Event> pagedResourcesAssembler;
+    private EventModelAssembler eventModelAssembler;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        page = new PageImpl<>(BenchmarkSupport.events(pageSize), PageRequest.of(1, pageSize), pageSize * 10L);
+        pagedResourcesAssembler = new PagedResourcesAssembler<>(null, null);
+        eventModelAssembler = new EventModelAssembler();
+        objectMapper = BenchmarkSupport.halObjectMapper();
+    }
+
+    @Setup(Level.Invocation)
+    public void bindRequest() {
+        BenchmarkSupport.bindRequest();
+    }
+
+    @Benchmark
+    public byte[] linkBuilderPerEvent() throws Exception {
+        return objectMapper.writeValueAsBytes(pagedResourcesAssembler.toModel(page,
+                event -> EntityModel.of(event, linkTo(EventController.class).slash(event.getId()).withSelfRel())));
+    }
+
+    @Benchmark
+    public byte[] eventModelAssembler() throws Exception {
+        return objectMapper.writeValueAsBytes(pagedResourcesAssembler.toModel(page, eventModelAssembler));
+    }
+}
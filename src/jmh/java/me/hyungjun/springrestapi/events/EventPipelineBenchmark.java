@@ -0,0 +1,142 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import me.hyungjun.springrestapi.BenchmarkSupport;
+import me.hyungjun.springrestapi.common.ErrorsResource;
+import me.hyungjun.springrestapi.common.ErrorsSerializer;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPipelineBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private EventValidator eventValidator;
+    private EventModelAssembler eventModelAssembler;
+    private PagedResourcesAssembler<Event> pagedResourcesAssembler;
+    private ModelMapper modelMapper;
+    private ObjectMapper objectMapper;
+    private EventDto eventDto;
+    private EventDto wrongEventDto;
+    private Event event;
+    private Page<Event> page;
+    private Errors errors;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkSupport.startApplication();
+        eventRepository = context.getBean(EventRepository.class);
+        eventValidator = context.getBean(EventValidator.class);
+        eventModelAssembler = context.getBean(EventModelAssembler.class);
+        modelMapper = context.getBean(ModelMapper.class);
+        pagedResourcesAssembler = new PagedResourcesAssembler<>(null, null);
+        objectMapper = BenchmarkSupport.halObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(Errors.class, new ErrorsSerializer()));
+
+        for (int i = 0; i < 1000; i++) {
+            Event seed = BenchmarkSupport.event(i);
+            seed.setId(null);
+            seed.setVersion(null);
+            eventRepository.save(seed);
+        }
+        page = eventRepository.findAll(PageRequest.of(1, 20, Sort.by("name")));
+        event = page.getContent().get(0);
+
+        eventDto = modelMapper.map(event, EventDto.class);
+        wrongEventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 1, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .basePrice(200)
+                .maxPrice(100)
+                .build();
+        errors = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        eventValidator.validate(wrongEventDto, errors);
+    }
+
+    @Setup(Level.Invocation)
+    public void bindRequest() {
+        BenchmarkSupport.bindRequest();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Errors validate() {
+        Errors result = new BeanPropertyBindingResult(eventDto, "eventDto");
+        eventValidator.validate(eventDto, result);
+        return result;
+    }
+
+    @Benchmark
+    public Errors validateRejected() {
+        Errors result = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        eventValidator.validate(wrongEventDto, result);
+        return result;
+    }
+
+    @Benchmark
+    public Event modelMapperMap() {
+        return modelMapper.map(eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event update() {
+        event.update();
+        return event;
+    }
+
+    @Benchmark
+    public Page<Event> findPage() {
+        return eventRepository.findAll(PageRequest.of(1, 20, Sort.by("name")));
+    }
+
+    @Benchmark
+    public byte[] serializeEntityModel() throws Exception {
+        return objectMapper.writeValueAsBytes(eventModelAssembler.toModel(event));
+    }
+
+    @Benchmark
+    public byte[] serializePagedModel() throws Exception {
+        return objectMapper.writeValueAsBytes(pagedResourcesAssembler.toModel(page, eventModelAssembler));
+    }
+
+    @Benchmark
+    public byte[] serializeErrors() throws Exception {
+        return objectMapper.writeValueAsBytes(new ErrorsResource(errors));
+    }
+}
@@ -0,0 +1,79 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import me.hyungjun.springrestapi.BenchmarkSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.PagedModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization CPU and bytes on the wire for an event page, per media type and page size. The raw and gzip sizes
+ * are printed once per parameter combination during setup; compare them against the 2KB compression threshold.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventRepresentationBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int pageSize;
+
+    @Param({"hal+json", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private PagedModel<?> pagedModel;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = "cbor".equals(format) ? new CBORFactory() : new JsonFactory();
+        objectMapper = BenchmarkSupport.halObjectMapper(factory);
+        BenchmarkSupport.bindRequest();
+        pagedModel = new PagedResourcesAssembler<Event>(null, null).toModel(
+                new PageImpl<>(BenchmarkSupport.events(pageSize), PageRequest.of(1, pageSize), pageSize * 10L),
+                new EventModelAssembler());
+
+        byte[] raw = serialize();
+        System.out.printf("%n%s, %d events: %d bytes raw, %d bytes gzip%n", format, pageSize, raw.length, gzip(raw).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(pagedModel);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        return gzip(serialize());
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(raw);
+        }
+        return bytes.toByteArray();
+    }
+}
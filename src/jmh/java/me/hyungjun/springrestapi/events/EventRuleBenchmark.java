@@ -0,0 +1,97 @@
+package me.hyungjun.springrestapi.events;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every {@link EventRule} on its own, plus the whole rule set in both validator modes. Run with
+ * {@code -prof gc} to confirm the valid path allocates nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventRuleBenchmark {
+
+    @Param({"PRICE_RANGE", "ENROLLMENT_PERIOD", "ENROLLMENT_CLOSES_BEFORE_EVENT", "EVENT_PERIOD",
+            "ENROLLMENT_BEGINS_BEFORE_EVENT", "ENROLLMENT_BEGINS_BEFORE_EVENT_ENDS",
+            "ENROLLMENT_CLOSES_BEFORE_EVENT_ENDS"})
+    private EventRule rule;
+
+    private EventValidator collectAll;
+    private EventValidator failFast;
+    private EventDto eventDto;
+    private EventDto wrongEventDto;
+
+    @Setup
+    public void setUp() {
+        collectAll = new EventValidator(EventValidator.Mode.COLLECT_ALL, List.of(rule));
+        failFast = new EventValidator(EventValidator.Mode.FAIL_FAST, List.of(rule));
+        eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 1, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .build();
+        wrongEventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 5, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .basePrice(200)
+                .maxPrice(100)
+                .build();
+    }
+
+    @Benchmark
+    public int rule() {
+        return rule.violations(eventDto);
+    }
+
+    @Benchmark
+    public int ruleRejected() {
+        return rule.violations(wrongEventDto);
+    }
+
+    @Benchmark
+    public boolean collectAll() {
+        return collectAll.isValid(eventDto);
+    }
+
+    @Benchmark
+    public Errors collectAllRejected() {
+        Errors errors = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        collectAll.validate(wrongEventDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors failFastRejected() {
+        Errors errors = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        failFast.validate(wrongEventDto, errors);
+        return errors;
+    }
+}
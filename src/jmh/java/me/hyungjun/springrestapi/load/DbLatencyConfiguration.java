@@ -0,0 +1,70 @@
+package me.hyungjun.springrestapi.load;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+@Configuration
+public class DbLatencyConfiguration {
+
+    @Bean
+    public static BeanPostProcessor dbLatencyBeanPostProcessor(@Value("${load.db-latency:20ms}") Duration latency) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof LatencyInjectingDataSource)) {
+                    return new LatencyInjectingDataSource((DataSource) bean, latency);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class LatencyInjectingDataSource extends DelegatingDataSource {
+
+        private final Duration latency;
+
+        LatencyInjectingDataSource(DataSource dataSource, Duration latency) {
+            super(dataSource);
+            this.latency = latency;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(super.getConnection(), Connection.class);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(super.getConnection(username, password), Connection.class);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T proxy(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (target instanceof Statement && method.getName().startsWith("execute")) {
+                    Thread.sleep(latency.toMillis());
+                }
+                try {
+                    Object result = method.invoke(target, args);
+                    if (result instanceof Statement && method.getReturnType().isInterface()) {
+                        return proxy(result, (Class<Object>) method.getReturnType());
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package me.hyungjun.springrestapi.load;
+
+import me.hyungjun.springrestapi.BenchmarkSupport;
+import me.hyungjun.springrestapi.DemoApplication;
+import me.hyungjun.springrestapi.events.Event;
+import me.hyungjun.springrestapi.events.EventRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * Compares platform and virtual request threads under injected DB latency.
+ * <p>
+ * {@code mvn -Pbenchmark test-compile exec:exec@load-test [-Dload.clients=400 -Dload.duration=30s -Dload.db-latency=20ms]}
+ */
+public class LoadTestHarness {
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("load.clients", 400);
+        Duration duration = Duration.parse("PT" + System.getProperty("load.duration", "30s").toUpperCase());
+        String dbLatency = System.getProperty("load.db-latency", "20ms");
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : new String[]{"platform", "virtual-threads"}) {
+            try (ConfigurableApplicationContext context = start(mode, dbLatency)) {
+                seed(context.getBean(EventRepository.class));
+                String port = context.getEnvironment().getProperty("local.server.port");
+                URI uri = URI.create("http://localhost:" + port + "/api/events?page=0&size=20");
+                run(uri, clients, Duration.ofSeconds(5));
+                results.add(new Result(mode, run(uri, clients, duration), duration));
+            }
+        }
+
+        System.out.printf("%n%d clients, %s, db latency %s%n", clients, duration, dbLatency);
+        System.out.printf("%-16s %10s %10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        results.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(String mode, String dbLatency) {
+        List<String> profiles = new ArrayList<>(List.of("test"));
+        if (!mode.equals("platform")) {
+            profiles.add(mode);
+        }
+        return new SpringApplicationBuilder(DemoApplication.class, DbLatencyConfiguration.class)
+                .profiles(profiles.toArray(String[]::new))
+                .properties("server.port=0",
+                        "load.db-latency=" + dbLatency,
+                        "spring.datasource.hikari.maximum-pool-size=50",
+                        "logging.level.org.hibernate.SQL=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn")
+                .run();
+    }
+
+    private static void seed(EventRepository eventRepository) {
+        List<Event> events = BenchmarkSupport.events(100);
+        events.forEach(event -> {
+            event.setId(null);
+            event.setVersion(null);
+        });
+        eventRepository.saveAll(events);
+    }
+
+    private static Samples run(URI uri, int clients, Duration duration) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<LongStream.Builder> latencies = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(clients);
+
+        for (int i = 0; i < clients; i++) {
+            LongStream.Builder samples = LongStream.builder();
+            latencies.add(samples);
+            Thread client = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            samples.add(System.nanoTime() - start);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+            client.setDaemon(true);
+            client.start();
+        }
+        done.await();
+
+        long[] sorted = latencies.stream()
+                .flatMapToLong(LongStream.Builder::build)
+                .sorted()
+                .toArray();
+        return new Samples(sorted, errors.get());
+    }
+
+    private static class Samples {
+
+        private final long[] sorted;
+        private final long errors;
+
+        Samples(long[] sorted, long errors) {
+            this.sorted = sorted;
+            this.errors = errors;
+        }
+
+        double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000d;
+        }
+    }
+
+    private static class Result {
+
+        private final String mode;
+        private final Samples samples;
+        private final Duration duration;
+
+        Result(String mode, Samples samples, Duration duration) {
+            this.mode = mode;
+            this.samples = samples;
+            this.duration = duration;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-16s %10.1f %10.1f %10.1f %10.1f %8d", mode,
+                    samples.sorted.length / (duration.toMillis() / 1000d),
+                    samples.percentileMillis(50), samples.percentileMillis(99), samples.percentileMillis(100),
+                    samples.errors);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package me.hyungjun.springrestapi.common;
+
+import lombok.Getter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+@Getter
+public class BatchErrorsResource extends RepresentationModel<BatchErrorsResource> {
+
+    private final List<BatchItemErrors> items;
+
+    public BatchErrorsResource(List<BatchItemErrors> items) {
+        this.items = items;
+        add(RequestLinks.indexLink());
+    }
+}
@@ -0,0 +1,18 @@
+package me.hyungjun.springrestapi.common;
+
+import lombok.Getter;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.validation.Errors;
+
+import java.util.Collections;
+
+@Getter
+public class BatchItemErrors extends EntityModel<Errors> {
+
+    private final int index;
+
+    public BatchItemErrors(int index, Errors errors) {
+        super(errors, Collections.emptyList());
+        this.index = index;
+    }
+}
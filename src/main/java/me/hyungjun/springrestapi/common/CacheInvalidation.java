@@ -0,0 +1,18 @@
+package me.hyungjun.springrestapi.common;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * A committed change on node {@code origin} that makes {@code key} in {@code cacheName} stale on every other node.
+ * A {@code null} key stands for the whole cache.
+ */
+@Value
+public class CacheInvalidation {
+
+    String origin;
+    String cacheName;
+    Object key;
+    Instant publishedAt;
+}
@@ -0,0 +1,14 @@
+package me.hyungjun.springrestapi.common;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport for {@link CacheInvalidation}s between nodes. Delivery is best effort; near caches also expire on their
+ * own, which bounds how long a lost message can keep an entry stale.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,54 @@
+package me.hyungjun.springrestapi.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Renders the same HAL documents as {@code application/cbor} for clients that ask for it. The mapper is built from
+ * Boot's {@link Jackson2ObjectMapperBuilder}, so the JSON components and {@code spring.jackson.*} settings apply.
+ */
+@Configuration
+@Profile("!reactive")
+public class CborConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper cborObjectMapper;
+
+    public CborConfiguration(Jackson2ObjectMapperBuilder objectMapperBuilder, LinkRelationProvider linkRelationProvider,
+                             ObjectProvider<CurieProvider> curieProvider, MessageResolver messageResolver,
+                             ObjectProvider<HalConfiguration> halConfiguration, AutowireCapableBeanFactory beanFactory) {
+        this.cborObjectMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        this.cborObjectMapper.registerModule(new Jackson2HalModule());
+        this.cborObjectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(linkRelationProvider,
+                curieProvider.getIfAvailable(() -> CurieProvider.NONE), messageResolver,
+                halConfiguration.getIfAvailable(HalConfiguration::new), beanFactory));
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring MVC already registers a plain CBOR converter when jackson-dataformat-cbor is present; take its slot
+        // so it doesn't render the HAL models first and without their links
+        MappingJackson2CborHttpMessageConverter converter = new MappingJackson2CborHttpMessageConverter(cborObjectMapper);
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter) {
+                converters.set(i, converter);
+                return;
+            }
+        }
+        converters.add(converter);
+    }
+}
@@ -1,19 +1,18 @@
 package me.hyungjun.springrestapi.common;
 
-import me.hyungjun.springrestapi.index.IndexController;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.validation.Errors;
 
 import java.util.Arrays;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 public class ErrorsResource extends EntityModel<Errors> {
     public ErrorsResource(Errors errors, Link... links) {
-        super(errors, Arrays.asList(links));
-        add(linkTo(methodOn(IndexController.class).index()).withRel("index"));
+        this(errors, RequestLinks.indexLink(), Arrays.asList(links));
+    }
 
+    public ErrorsResource(Errors errors, Link indexLink, Iterable<Link> links) {
+        super(errors, links);
+        add(indexLink);
     }
 }
@@ -1,47 +1,82 @@
 package me.hyungjun.springrestapi.common;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.springframework.boot.jackson.JsonComponent;
 import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Writes {@link Errors} straight to the generator. Field names, object names, codes and default messages come from a
+ * small fixed set, so they are escaped once and reused; rejected values are user input and are never cached.
+ */
 @JsonComponent
 public class ErrorsSerializer extends JsonSerializer<Errors> {
 
+    private static final SerializedString ERRORS = new SerializedString("errors");
+    private static final SerializedString FIELD = new SerializedString("field");
+    private static final SerializedString OBJECT_NAME = new SerializedString("objectName");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString DEFAULT_MESSAGE = new SerializedString("defaultMessage");
+    private static final SerializedString REJECTED_VALUE = new SerializedString("rejectedValue");
+
+    private static final int MAX_CACHED_VALUES = 1024;
+
+    private final Map<String, SerializableString> values = new ConcurrentHashMap<>();
+
     @Override
     public void serialize(Errors errors, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
-        jsonGenerator.writeFieldName("errors");
+        jsonGenerator.writeFieldName(ERRORS);
         jsonGenerator.writeStartArray();
-        errors.getFieldErrors().stream().forEach(e -> {
-            try {
-                jsonGenerator.writeStartObject();
-                jsonGenerator.writeStringField("field", e.getField());
-                jsonGenerator.writeStringField("objectName", e.getObjectName());
-                jsonGenerator.writeStringField("code", e.getCode());
-                jsonGenerator.writeStringField("defaultMessage", e.getDefaultMessage());
-                Object rejectedValue = e.getRejectedValue();
-                if (rejectedValue != null) {
-                    jsonGenerator.writeStringField("rejectedValue", rejectedValue.toString());
-                }
-                jsonGenerator.writeEndObject();
-            } catch (IOException e1) {
-                e1.printStackTrace();
-            }
-        });
-        errors.getGlobalErrors().stream().forEach(e -> {
-            try {
-                jsonGenerator.writeStartObject();
-                jsonGenerator.writeStringField("objectName", e.getObjectName());
-                jsonGenerator.writeStringField("code", e.getCode());
-                jsonGenerator.writeStringField("defaultMessage", e.getDefaultMessage());
-                jsonGenerator.writeEndObject();
-            } catch (IOException e1) {
-                e1.printStackTrace();
+        List<FieldError> fieldErrors = errors.getFieldErrors();
+        for (int i = 0, size = fieldErrors.size(); i < size; i++) {
+            FieldError error = fieldErrors.get(i);
+            jsonGenerator.writeStartObject();
+            writeField(jsonGenerator, FIELD, error.getField());
+            writeField(jsonGenerator, OBJECT_NAME, error.getObjectName());
+            writeField(jsonGenerator, CODE, error.getCode());
+            writeField(jsonGenerator, DEFAULT_MESSAGE, error.getDefaultMessage());
+            Object rejectedValue = error.getRejectedValue();
+            if (rejectedValue != null) {
+                jsonGenerator.writeFieldName(REJECTED_VALUE);
+                jsonGenerator.writeString(rejectedValue.toString());
             }
-        });
+            jsonGenerator.writeEndObject();
+        }
+        List<ObjectError> globalErrors = errors.getGlobalErrors();
+        for (int i = 0, size = globalErrors.size(); i < size; i++) {
+            ObjectError error = globalErrors.get(i);
+            jsonGenerator.writeStartObject();
+            writeField(jsonGenerator, OBJECT_NAME, error.getObjectName());
+            writeField(jsonGenerator, CODE, error.getCode());
+            writeField(jsonGenerator, DEFAULT_MESSAGE, error.getDefaultMessage());
+            jsonGenerator.writeEndObject();
+        }
         jsonGenerator.writeEndArray();
     }
+
+    private void writeField(JsonGenerator jsonGenerator, SerializedString name, String value) throws IOException {
+        jsonGenerator.writeFieldName(name);
+        if (value == null) {
+            jsonGenerator.writeNull();
+            return;
+        }
+        SerializableString serialized = values.get(value);
+        if (serialized == null) {
+            serialized = new SerializedString(value);
+            if (values.size() < MAX_CACHED_VALUES) {
+                values.putIfAbsent(value, serialized);
+            }
+        }
+        jsonGenerator.writeString(serialized);
+    }
 }
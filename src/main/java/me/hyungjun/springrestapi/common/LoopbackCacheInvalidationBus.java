@@ -0,0 +1,26 @@
+package me.hyungjun.springrestapi.common;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers every invalidation to all subscribers in this JVM on the publishing thread. With one subscriber it is a
+ * no-op for a single node; sharing one instance between several {@link NearCacheInvalidator}s simulates a cluster.
+ */
+public class LoopbackCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
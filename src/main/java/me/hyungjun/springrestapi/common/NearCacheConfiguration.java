@@ -0,0 +1,23 @@
+package me.hyungjun.springrestapi.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NearCacheConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "loopback", matchIfMissing = true)
+    public CacheInvalidationBus loopbackCacheInvalidationBus() {
+        return new LoopbackCacheInvalidationBus();
+    }
+
+    @Bean
+    public NearCacheInvalidator nearCacheInvalidator(CacheManager cacheManager, CacheInvalidationBus cacheInvalidationBus,
+                                                     MeterRegistry meterRegistry) {
+        return new NearCacheInvalidator(cacheManager, cacheInvalidationBus, meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package me.hyungjun.springrestapi.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Keeps this node's near caches coherent with the rest of the cluster. A local write evicts immediately and again
+ * after commit, so a concurrent read can't re-cache the pre-commit row, and only then tells the other nodes. The
+ * delay between that publish and a remote eviction is the stale-read window, recorded as
+ * {@code cache.invalidation.stale.window}.
+ */
+public class NearCacheInvalidator {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final Timer staleWindow;
+    private final Counter published;
+
+    public NearCacheInvalidator(CacheManager cacheManager, CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.invalidationBus = invalidationBus;
+        this.staleWindow = Timer.builder("cache.invalidation.stale.window")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.published = Counter.builder("cache.invalidation.published").register(meterRegistry);
+        invalidationBus.subscribe(this::receive);
+    }
+
+    public void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        apply(cache, key);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(cacheName, key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(cache, key);
+                publish(cacheName, key);
+            }
+        });
+    }
+
+    public void clear(String cacheName) {
+        evict(cacheName, null);
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private void publish(String cacheName, Object key) {
+        published.increment();
+        invalidationBus.publish(new CacheInvalidation(nodeId, cacheName, key, Instant.now()));
+    }
+
+    private void receive(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.getOrigin())) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(invalidation.getCacheName());
+        if (cache != null) {
+            apply(cache, invalidation.getKey());
+        }
+        staleWindow.record(Duration.between(invalidation.getPublishedAt(), Instant.now()));
+    }
+
+    private static void apply(Cache cache, Object key) {
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package me.hyungjun.springrestapi.common;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Only the reactive stack runs in this profile: JDBC and JPA are excluded in application-reactive.properties, the
+ * R2DBC pool and template come from Spring Boot, and the JPA-backed components are {@code @Profile("!reactive")}.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfiguration implements WebFluxConfigurer {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactiveSortHandlerMethodArgumentResolver(),
+                new ReactivePageableHandlerMethodArgumentResolver());
+    }
+}
@@ -0,0 +1,48 @@
+package me.hyungjun.springrestapi.common;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for read-only transactions to the replica. Must sit behind a
+ * {@code LazyConnectionDataSourceProxy} so the lookup happens after the transaction's
+ * read-only flag has been set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = ThreadLocal.withInitial(() -> false);
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Runs reads that must not observe replica lag, such as cache fills, against the primary.
+     */
+    public static <T> T onPrimary(Supplier<T> supplier) {
+        boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(true);
+        try {
+            return supplier.get();
+        } finally {
+            PRIMARY_ONLY.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PRIMARY_ONLY.get()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
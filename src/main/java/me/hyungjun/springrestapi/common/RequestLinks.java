@@ -0,0 +1,58 @@
+package me.hyungjun.springrestapi.common;
+
+import me.hyungjun.springrestapi.index.IndexController;
+import org.springframework.hateoas.Link;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+public final class RequestLinks {
+
+    private static final String ATTRIBUTE_PREFIX = RequestLinks.class.getName() + ".";
+    private static final int MAX_CACHED_INDEX_LINKS = 64;
+    private static final Map<String, Link> INDEX_LINKS = new ConcurrentHashMap<>();
+
+    private RequestLinks() {
+    }
+
+    /**
+     * The index link only depends on the servlet mapping the request came in through, so one immutable instance is
+     * shared by every response served from the same base URI.
+     */
+    public static Link indexLink() {
+        String baseUri = href("baseUri", () -> ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString());
+        Link link = INDEX_LINKS.get(baseUri);
+        if (link == null) {
+            link = Link.of(linkTo(methodOn(IndexController.class).index()).toUri().toString(), "index");
+            if (INDEX_LINKS.size() < MAX_CACHED_INDEX_LINKS) {
+                INDEX_LINKS.putIfAbsent(baseUri, link);
+            }
+        }
+        return link;
+    }
+
+    public static String href(Class<?> controller) {
+        return href(controller.getName(), () -> linkTo(controller).toUri().toString());
+    }
+
+    public static String href(String key, Supplier<String> href) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return href.get();
+        }
+        String attribute = ATTRIBUTE_PREFIX + key;
+        String cached = (String) attributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (cached == null) {
+            cached = href.get();
+            attributes.setAttribute(attribute, cached, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,31 @@
+package me.hyungjun.springrestapi.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class RequestMetricsConfiguration implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatisticsEndpoint sqlStatisticsEndpoint;
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounter() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(meterRegistry, sqlStatisticsEndpoint))
+                .addPathPatterns("/api/**");
+    }
+}
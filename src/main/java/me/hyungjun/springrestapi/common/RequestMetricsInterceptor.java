@@ -0,0 +1,68 @@
+package me.hyungjun.springrestapi.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String STATEMENTS_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".statements";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatisticsEndpoint sqlStatistics;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        Object statements = request.getAttribute(STATEMENTS_ATTRIBUTE);
+        if (request.getDispatcherType() == DispatcherType.ASYNC && statements instanceof Map) {
+            request.removeAttribute(STATEMENTS_ATTRIBUTE);
+            SqlStatementCounter.resume((Map<String, Integer>) statements);
+        } else {
+            SqlStatementCounter.start();
+        }
+        return true;
+    }
+
+    /**
+     * The initial dispatch of an async handler ends here instead of in {@link #afterCompletion}. The counts move to
+     * the request so the worker thread is left clean, and the async dispatch carries on from them.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(STATEMENTS_ATTRIBUTE, SqlStatementCounter.stop());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod)) {
+            return;
+        }
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        String handlerName = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        sqlStatistics.record(handlerName, request.getRequestURI(), SqlStatementCounter.stop());
+
+        Object writeStarted = request.getAttribute(ResponseBodyTimingAdvice.WRITE_STARTED_ATTRIBUTE);
+        if (writeStarted instanceof Long) {
+            Timer.builder("http.server.requests.serialization")
+                    .tag("handler", handlerName)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - (Long) writeStarted, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package me.hyungjun.springrestapi.common;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+@Profile("!reactive")
+public class ResponseBodyTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String WRITE_STARTED_ATTRIBUTE = ResponseBodyTimingAdvice.class.getName() + ".writeStarted";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest) {
+            ((ServletServerHttpRequest) request).getServletRequest().setAttribute(WRITE_STARTED_ATTRIBUTE, System.nanoTime());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,34 @@
+package me.hyungjun.springrestapi.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Map<String, Integer>> STATEMENTS = new ThreadLocal<>();
+
+    static void start() {
+        STATEMENTS.set(new HashMap<>());
+    }
+
+    static void resume(Map<String, Integer> statements) {
+        STATEMENTS.set(new HashMap<>(statements));
+    }
+
+    static Map<String, Integer> stop() {
+        Map<String, Integer> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? Map.of() : statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Map<String, Integer> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+}
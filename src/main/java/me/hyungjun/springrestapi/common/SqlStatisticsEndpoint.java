@@ -0,0 +1,123 @@
+package me.hyungjun.springrestapi.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-handler SQL statement counts. A request is flagged as a likely N+1 when a single
+ * statement is executed more than {@code metrics.sql.n-plus-one-threshold} times.
+ */
+@Component
+@Profile("!reactive")
+@Endpoint(id = "sqlstats")
+public class SqlStatisticsEndpoint {
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+    private final Map<String, HandlerStatistics> handlers = new ConcurrentHashMap<>();
+
+    public SqlStatisticsEndpoint(MeterRegistry meterRegistry,
+                                 @Value("${metrics.sql.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @ReadOperation
+    public Map<String, Object> sqlStatistics() {
+        return Map.of("nPlusOneThreshold", nPlusOneThreshold, "handlers", new TreeMap<>(handlers));
+    }
+
+    void record(String handler, String uri, Map<String, Integer> statements) {
+        HandlerStatistics statistics = handlers.computeIfAbsent(handler, this::register);
+        int total = 0;
+        String mostRepeated = null;
+        int repeats = 0;
+        for (Map.Entry<String, Integer> statement : statements.entrySet()) {
+            total += statement.getValue();
+            if (statement.getValue() > repeats) {
+                mostRepeated = statement.getKey();
+                repeats = statement.getValue();
+            }
+        }
+        statistics.record(total);
+        if (repeats > nPlusOneThreshold) {
+            statistics.flag(uri, mostRepeated, repeats);
+        }
+    }
+
+    private HandlerStatistics register(String handler) {
+        return new HandlerStatistics(DistributionSummary.builder("http.server.requests.statements")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public static class HandlerStatistics {
+
+        private final DistributionSummary summary;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final AtomicInteger maxStatements = new AtomicInteger();
+        private final LongAdder suspects = new LongAdder();
+        private volatile Suspect lastSuspect;
+
+        HandlerStatistics(DistributionSummary summary) {
+            this.summary = summary;
+        }
+
+        void record(int total) {
+            requests.increment();
+            statements.add(total);
+            maxStatements.accumulateAndGet(total, Math::max);
+            summary.record(total);
+        }
+
+        void flag(String uri, String statement, int repeats) {
+            suspects.increment();
+            lastSuspect = new Suspect(uri, statement, repeats);
+        }
+
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        public long getStatements() {
+            return statements.sum();
+        }
+
+        public int getMaxStatements() {
+            return maxStatements.get();
+        }
+
+        public long getSuspects() {
+            return suspects.sum();
+        }
+
+        public Suspect getLastSuspect() {
+            return lastSuspect;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Suspect {
+
+        private final String uri;
+        private final String statement;
+        private final int repeats;
+    }
+}
@@ -0,0 +1,6 @@
+package me.hyungjun.springrestapi.events;
+
+public enum EnrollmentResult {
+
+    ENROLLED, FULL, CLOSED, NOT_FOUND
+}
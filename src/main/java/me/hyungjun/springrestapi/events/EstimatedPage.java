@@ -0,0 +1,13 @@
+package me.hyungjun.springrestapi.events;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+class EstimatedPage<T> extends PageImpl<T> {
+
+    EstimatedPage(List<T> content, Pageable pageable, long total) {
+        super(content, pageable, total);
+    }
+}
@@ -0,0 +1,16 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.hateoas.PagedModel;
+
+class EstimatedPageMetadata extends PagedModel.PageMetadata {
+
+    EstimatedPageMetadata(PagedModel.PageMetadata metadata) {
+        super(metadata.getSize(), metadata.getNumber(), metadata.getTotalElements(), metadata.getTotalPages());
+    }
+
+    @JsonProperty
+    public boolean isEstimated() {
+        return true;
+    }
+}
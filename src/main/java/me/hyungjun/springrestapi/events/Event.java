@@ -1,6 +1,8 @@
 package me.hyungjun.springrestapi.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -9,9 +11,22 @@ import java.time.LocalDateTime;
 @AllArgsConstructor @NoArgsConstructor
 @EqualsAndHashCode(of = "id")
 @Entity
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_event_status_begin_enrollment", columnList = "eventStatus, beginEnrollmentDateTime"),
+        @Index(name = "idx_event_status_close_enrollment", columnList = "eventStatus, closeEnrollmentDateTime"),
+        @Index(name = "idx_event_status_begin_event", columnList = "eventStatus, beginEventDateTime"),
+        @Index(name = "idx_event_status_end_event", columnList = "eventStatus, endEventDateTime"),
+        @Index(name = "idx_event_begin_event", columnList = "beginEventDateTime"),
+        @Index(name = "idx_event_begin_enrollment", columnList = "beginEnrollmentDateTime"),
+        @Index(name = "idx_event_free_offline_begin_event", columnList = "free, offline, beginEventDateTime"),
+        @Index(name = "idx_event_location", columnList = "location")
+})
 public class Event {
 
-    @Id @GeneratedValue
+    @Id @org.springframework.data.annotation.Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Integer id;
     private String name;
     private String description;
@@ -23,12 +38,17 @@ public class Event {
     private int basePrice;
     private int maxPrice;
     private int limitOfEnrollment;
+    @Column(updatable = false) @JsonIgnore
+    private int numberOfEnrollment;
 
     private boolean offline;
     private boolean free;
-    @Enumerated(EnumType.STRING)
+    @Enumerated(EnumType.STRING) @Builder.Default
     private EventStatus eventStatus = EventStatus.DRAFT;
 
+    @Version @JsonIgnore
+    private Long version;
+
     public void update() {
         // Update free
         if (this.basePrice == 0 && this.maxPrice == 0) {
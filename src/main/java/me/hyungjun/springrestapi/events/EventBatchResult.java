@@ -0,0 +1,41 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import me.hyungjun.springrestapi.common.BatchItemErrors;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.validation.Errors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class EventBatchResult extends RepresentationModel<EventBatchResult> {
+
+    private int created;
+    @JsonIgnore
+    private final List<Event> events = new ArrayList<>();
+    @JsonIgnore
+    private final List<BatchItemErrors> errors = new ArrayList<>();
+    @JsonIgnore
+    private final boolean retainEvents;
+
+    public EventBatchResult(boolean retainEvents) {
+        this.retainEvents = retainEvents;
+    }
+
+    void created(Event event) {
+        this.created++;
+        if (retainEvents) {
+            this.events.add(event);
+        }
+    }
+
+    void rejected(int index, Errors errors) {
+        this.errors.add(new BatchItemErrors(index, errors));
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
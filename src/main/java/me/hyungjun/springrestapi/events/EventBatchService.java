@@ -0,0 +1,146 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Service
+@Profile("!reactive")
+public class EventBatchService {
+
+    private final EventValidator eventValidator;
+    private final SpringValidatorAdapter beanValidator;
+    private final EventMapper eventMapper;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventOutbox eventOutbox;
+    private final EventLifecycleScheduler eventLifecycleScheduler;
+    private final EventCache eventCache;
+    private final ObjectReader eventDtoReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EventBatchService(EventValidator eventValidator, Validator validator, EventMapper eventMapper,
+                             EventSearchIndex eventSearchIndex, EventOutbox eventOutbox, EventLifecycleScheduler eventLifecycleScheduler,
+                             EventCache eventCache, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                             @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.eventValidator = eventValidator;
+        this.beanValidator = new SpringValidatorAdapter(validator);
+        this.eventMapper = eventMapper;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventOutbox = eventOutbox;
+        this.eventLifecycleScheduler = eventLifecycleScheduler;
+        this.eventCache = eventCache;
+        this.eventDtoReader = objectMapper.readerFor(EventDto.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public EventBatchResult createAll(List<EventDto> eventDtos) {
+        return transactionTemplate.execute(status -> {
+            EventBatchResult result = new EventBatchResult(true);
+            for (int i = 0; i < eventDtos.size(); i++) {
+                accept(i, eventDtos.get(i), result);
+            }
+            return complete(result, status);
+        });
+    }
+
+    public EventBatchResult createAll(BufferedReader reader) throws IOException {
+        try {
+            return transactionTemplate.execute(status -> {
+                EventBatchResult result = new EventBatchResult(false);
+                try {
+                    String line;
+                    int index = 0;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        accept(index++, line, result);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return complete(result, status);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void accept(int index, String line, EventBatchResult result) throws IOException {
+        EventDto eventDto;
+        try {
+            eventDto = eventDtoReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            Errors errors = new BeanPropertyBindingResult(new EventDto(), "eventDto");
+            errors.reject("unreadable", e.getOriginalMessage());
+            result.rejected(index, errors);
+            return;
+        }
+        accept(index, eventDto, result);
+    }
+
+    private void accept(int index, EventDto eventDto, EventBatchResult result) {
+        if (eventDto == null) {
+            // A JSON null element or NDJSON line binds to no object at all, so there is nothing to validate
+            Errors errors = new BeanPropertyBindingResult(new EventDto(), "eventDto");
+            errors.reject("required", "event must not be null");
+            result.rejected(index, errors);
+            return;
+        }
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        beanValidator.validate(eventDto, errors);
+        if (!errors.hasErrors()) {
+            eventValidator.validate(eventDto, errors);
+        }
+        if (errors.hasErrors()) {
+            result.rejected(index, errors);
+            return;
+        }
+        if (result.hasErrors()) {
+            return;
+        }
+        Event event = eventMapper.toEvent(eventDto);
+        event.update();
+        entityManager.persist(event);
+        eventSearchIndex.index(event);
+        eventOutbox.created(event);
+        eventLifecycleScheduler.schedule(event);
+        result.created(event);
+        if (result.getCreated() % batchSize == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private EventBatchResult complete(EventBatchResult result, TransactionStatus status) {
+        if (result.hasErrors()) {
+            status.setRollbackOnly();
+        } else if (result.getCreated() > 0) {
+            // New ids can't be in the event cache, but every cached listing page is now missing them
+            eventCache.evictPages();
+        }
+        return result;
+    }
+}
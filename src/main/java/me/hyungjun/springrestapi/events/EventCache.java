@@ -0,0 +1,70 @@
+package me.hyungjun.springrestapi.events;
+
+import me.hyungjun.springrestapi.common.NearCacheInvalidator;
+import me.hyungjun.springrestapi.common.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@Profile("!reactive")
+public class EventCache {
+
+    public static final String CACHE_NAME = "events";
+    public static final String PAGE_CACHE_NAME = "eventPages";
+
+    private final EventRepository eventRepository;
+    private final CacheManager cacheManager;
+    private final NearCacheInvalidator nearCacheInvalidator;
+    private final int maxCachedPages;
+
+    public EventCache(EventRepository eventRepository, CacheManager cacheManager, NearCacheInvalidator nearCacheInvalidator,
+                      @Value("${events.cache.max-pages:10}") int maxCachedPages) {
+        this.eventRepository = eventRepository;
+        this.cacheManager = cacheManager;
+        this.nearCacheInvalidator = nearCacheInvalidator;
+        this.maxCachedPages = maxCachedPages;
+    }
+
+    @Cacheable(cacheNames = CACHE_NAME, unless = "#result == null")
+    public Optional<Event> findById(Integer id) {
+        // A replica read here could pin a pre-update row in the cache for the whole TTL
+        return ReplicaRoutingDataSource.onPrimary(() -> eventRepository.findById(id));
+    }
+
+    /**
+     * Leading pages of the unfiltered listing, which is what polling clients hit. Any write drops them all.
+     */
+    public Slice<Event> findSlice(Pageable pageable) {
+        Cache cache = cacheManager.getCache(PAGE_CACHE_NAME);
+        if (cache == null || pageable.getPageNumber() >= maxCachedPages) {
+            return loadSlice(pageable);
+        }
+        return cache.get(pageable, () -> loadSlice(pageable));
+    }
+
+    private Slice<Event> loadSlice(Pageable pageable) {
+        return ReplicaRoutingDataSource.onPrimary(() -> eventRepository.findSlice((root, query, cb) -> null, pageable));
+    }
+
+    public void evict(Integer id) {
+        nearCacheInvalidator.evict(CACHE_NAME, id);
+        nearCacheInvalidator.clear(PAGE_CACHE_NAME);
+    }
+
+    public void evictPages() {
+        nearCacheInvalidator.clear(PAGE_CACHE_NAME);
+    }
+
+    public void evictAll() {
+        nearCacheInvalidator.clear(CACHE_NAME);
+        nearCacheInvalidator.clear(PAGE_CACHE_NAME);
+    }
+}
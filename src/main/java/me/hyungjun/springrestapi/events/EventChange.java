@@ -0,0 +1,41 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Outbox record of one committed mutation. {@code position} is assigned by {@link EventOutboxRelay} in publish order,
+ * so unlike {@code id} it never lets a late-committing transaction slip in behind a consumer's cursor.
+ */
+@Getter @Builder
+@AllArgsConstructor @NoArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "uk_event_change_position", columnList = "position", unique = true),
+        @Index(name = "idx_event_change_published_at", columnList = "publishedAt")
+})
+public class EventChange {
+
+    @Id @JsonIgnore
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_change_seq")
+    @SequenceGenerator(name = "event_change_seq", sequenceName = "event_change_seq", allocationSize = 50)
+    private Long id;
+    private Long position;
+    private Integer eventId;
+    @Enumerated(EnumType.STRING)
+    private EventChangeType type;
+    private Long version;
+    /** Comma-separated names of the changed properties, or {@code null} when the whole event may have changed. */
+    private String fields;
+    private LocalDateTime changedAt;
+    @JsonIgnore
+    private LocalDateTime publishedAt;
+
+    void publish(long position, LocalDateTime publishedAt) {
+        this.position = position;
+        this.publishedAt = publishedAt;
+    }
+}
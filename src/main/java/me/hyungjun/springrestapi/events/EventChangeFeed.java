@@ -0,0 +1,142 @@
+package me.hyungjun.springrestapi.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Hands relayed {@link EventChange}s to long-poll requests and stream listeners on this node. Batches relayed here
+ * arrive immediately; batches relayed by other nodes are picked up by tailing the outbox by position.
+ */
+@Component
+@Profile("!reactive")
+public class EventChangeFeed {
+
+    private final EventChangeRepository eventChangeRepository;
+    private final int tailBatchSize;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final List<Consumer<List<EventChange>>> listeners = new CopyOnWriteArrayList<>();
+    private volatile long lastPosition;
+    private volatile boolean tailing;
+
+    public EventChangeFeed(EventChangeRepository eventChangeRepository,
+                           @Value("${events.outbox.batch-size:500}") int tailBatchSize) {
+        this.eventChangeRepository = eventChangeRepository;
+        this.tailBatchSize = tailBatchSize;
+    }
+
+    public long getLastPosition() {
+        return lastPosition;
+    }
+
+    public Waiter await(long since, int limit, Consumer<List<EventChange>> listener) {
+        Waiter waiter = new Waiter(since, limit, listener);
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    public void subscribe(Consumer<List<EventChange>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Resumes from the current end of the outbox; changes published before that are not replayed to waiters.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void startTailing() {
+        Long maxPosition = eventChangeRepository.findMaxPosition();
+        lastPosition = maxPosition == null ? 0 : maxPosition;
+        tailing = true;
+    }
+
+    @Scheduled(fixedDelayString = "${events.stream.tail-interval:1000}")
+    public synchronized void tail() {
+        if (tailing) {
+            catchUp();
+        }
+    }
+
+    /**
+     * Called by the local relay after its batch commits. If another node relayed positions in between that haven't
+     * been tailed yet, the outbox is read from the last dispatched position instead, which covers both; otherwise
+     * the batch is dispatched as is, minus anything the tailer already picked up.
+     */
+    synchronized void published(List<EventChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (changes.get(0).getPosition() > lastPosition + 1) {
+            catchUp();
+            return;
+        }
+        List<EventChange> unseen = new ArrayList<>(changes.size());
+        for (EventChange change : changes) {
+            if (change.getPosition() > lastPosition) {
+                unseen.add(change);
+            }
+        }
+        dispatch(unseen);
+    }
+
+    private void catchUp() {
+        List<EventChange> changes;
+        do {
+            changes = eventChangeRepository.findByPositionGreaterThanOrderByPosition(lastPosition,
+                    PageRequest.of(0, tailBatchSize));
+            dispatch(changes);
+        } while (changes.size() == tailBatchSize);
+    }
+
+    private void dispatch(List<EventChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        lastPosition = Math.max(lastPosition, changes.get(changes.size() - 1).getPosition());
+        for (Consumer<List<EventChange>> listener : listeners) {
+            listener.accept(changes);
+        }
+        Iterator<Waiter> iterator = waiters.iterator();
+        while (iterator.hasNext()) {
+            Waiter waiter = iterator.next();
+            List<EventChange> matching = new ArrayList<>(Math.min(changes.size(), waiter.limit));
+            for (EventChange change : changes) {
+                if (change.getPosition() > waiter.since && matching.size() < waiter.limit) {
+                    matching.add(change);
+                }
+            }
+            if (!matching.isEmpty()) {
+                iterator.remove();
+                waiter.listener.accept(matching);
+            }
+        }
+    }
+
+    public class Waiter {
+
+        private final long since;
+        private final int limit;
+        private final Consumer<List<EventChange>> listener;
+
+        private Waiter(long since, int limit, Consumer<List<EventChange>> listener) {
+            this.since = since;
+            this.limit = limit;
+            this.listener = listener;
+        }
+
+        public void cancel() {
+            waiters.remove(this);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package me.hyungjun.springrestapi.events;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventChangeRepository extends JpaRepository<EventChange, Long> {
+
+    List<EventChange> findByPositionGreaterThanOrderByPosition(long position, Pageable pageable);
+
+    // SKIP LOCKED where the dialect has it, so relays on several nodes take disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    List<EventChange> findByPositionIsNullOrderById(Pageable pageable);
+
+    @Query("select max(c.position) from EventChange c")
+    Long findMaxPosition();
+
+    @Modifying
+    @Query("delete from EventChange c where c.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,5 @@
+package me.hyungjun.springrestapi.events;
+
+public enum EventChangeType {
+    CREATED, UPDATED, STATUS_CHANGED
+}
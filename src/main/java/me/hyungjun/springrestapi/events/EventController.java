@@ -1,108 +1,622 @@
 package me.hyungjun.springrestapi.events;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import me.hyungjun.springrestapi.events.EventPipelineMetrics.Stage;
+import me.hyungjun.springrestapi.common.BatchErrorsResource;
 import me.hyungjun.springrestapi.common.ErrorsResource;
-import me.hyungjun.springrestapi.index.IndexController;
-import org.modelmapper.ModelMapper;
+import me.hyungjun.springrestapi.common.RequestLinks;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.validation.Valid;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import java.util.Set;
+import java.util.function.Function;
 
 @Controller
-@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE+";charset=utf8")
+@Profile("!reactive")
+@Timed(histogram = true, percentiles = {0.5, 0.95, 0.99})
+@RequestMapping(value = "/api/events", produces = {MediaTypes.HAL_JSON_VALUE+";charset=utf8", MediaType.APPLICATION_CBOR_VALUE})
 @RequiredArgsConstructor
 public class EventController {
 
+    static final Link PROFILE_CREATE = Link.of("/docs/index.html#resources-events-create").withRel("profile");
+    static final Link PROFILE_BATCH = Link.of("/docs/index.html#resources-events-batch").withRel("profile");
+    static final Link PROFILE_LIST = Link.of("/docs/index.html#resources-events-list").withRel("profile");
+    static final Link PROFILE_GET = Link.of("/docs/index.html#resources-events-get").withRel("profile");
+    static final Link PROFILE_UPDATE = Link.of("/docs/index.html#resources-events-update").withRel("profile");
+    static final Link PROFILE_PATCH = Link.of("/docs/index.html#resources-events-patch").withRel("profile");
+    static final Link PROFILE_SEARCH = Link.of("/docs/index.html#resources-events-search").withRel("profile");
+    static final Link PROFILE_CHANGES = Link.of("/docs/index.html#resources-events-changes").withRel("profile");
+    static final Link PROFILE_ENROLL = Link.of("/docs/index.html#resources-events-enroll").withRel("profile");
+
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    private static final int MAX_CHANGES = 500;
+    private static final long MAX_CHANGES_TIMEOUT = 60000;
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
     private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private final EventMapper eventMapper;
     private final EventValidator eventValidator;
+    private final EventBatchService eventBatchService;
+    private final EventCache eventCache;
+    private final EventModelAssembler eventModelAssembler;
+    private final EventExporter eventExporter;
+    private final EventLifecycleScheduler eventLifecycleScheduler;
+    private final EventEnrollments eventEnrollments;
+    private final EventPipelineMetrics eventPipelineMetrics;
+    private final EventCountEstimator eventCountEstimator;
+    private final EventPatcher eventPatcher;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventOutbox eventOutbox;
+    private final EventChangeRepository eventChangeRepository;
+    private final EventChangeFeed eventChangeFeed;
+    private final EventStreamHub eventStreamHub;
 
     @PostMapping
+    @Transactional
     public ResponseEntity createEvent(@RequestBody @Valid EventDto eventDto, Errors errors) {
         if (errors.hasErrors()) {
             return ResponseEntity.badRequest().build();
         }
-        eventValidator.validate(eventDto, errors);
+        eventPipelineMetrics.timer(Stage.VALIDATE).record(() -> eventValidator.validate(eventDto, errors));
         if (errors.hasErrors()) {
             return ResponseEntity.badRequest().body(new ErrorsResource(errors));
         }
-        Event event = modelMapper.map(eventDto, Event.class);
-        event.update();
-        Event newEvent = eventRepository.save(event);
-        WebMvcLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        URI createdUri = selfLinkBuilder.toUri();
+        Event event = eventPipelineMetrics.timer(Stage.MAP).record(() -> {
+            Event mapped = eventMapper.toEvent(eventDto);
+            mapped.update();
+            return mapped;
+        });
+        Event newEvent = eventPipelineMetrics.timer(Stage.PERSIST).record(() -> eventRepository.save(event));
+        eventCache.evict(newEvent.getId());
+        eventSearchIndex.index(newEvent);
+        eventOutbox.created(newEvent);
+        eventLifecycleScheduler.schedule(newEvent);
+        eventCountEstimator.add(1);
+        EntityModel<Event> eventEntityModel = eventPipelineMetrics.timer(Stage.ASSEMBLE).record(() ->
+                eventModelAssembler.toModel(newEvent,
+                        eventModelAssembler.queryEventsLink(),
+                        eventModelAssembler.eventLink(newEvent.getId(), "update-event"),
+                        PROFILE_CREATE
+                ));
+        URI createdUri = eventEntityModel.getRequiredLink(IanaLinkRelations.SELF).toUri();
+        return withETag(ResponseEntity.created(createdUri), EventETags.of(newEvent.getVersion())).body(eventEntityModel);
+    }
 
-        EntityModel<Event> eventEntityModel = EntityModel.of(event,
-                linkTo(EventController.class).withRel("query-events"),
-                selfLinkBuilder.withSelfRel(),
-                selfLinkBuilder.withRel("update-event"),
-                Link.of("/docs/index.html#resources-events-create").withRel("profile")
-        );
-        return ResponseEntity.created(createdUri).body(eventEntityModel);
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity createEvents(@RequestBody List<EventDto> eventDtos) {
+        EventBatchResult result = eventBatchService.createAll(eventDtos);
+        if (result.hasErrors()) {
+            return ResponseEntity.badRequest().body(new BatchErrorsResource(result.getErrors()));
+        }
+        eventCountEstimator.add(result.getCreated());
+        CollectionModel<EntityModel<Event>> collectionModel = eventModelAssembler.toCollectionModel(result.getEvents())
+                .add(eventModelAssembler.queryEventsLink(), PROFILE_BATCH);
+        return ResponseEntity.status(HttpStatus.CREATED).body(collectionModel);
+    }
+
+    @PostMapping(value = "/batch", consumes = "application/x-ndjson")
+    public ResponseEntity createEventsFromStream(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        EventBatchResult result = eventBatchService.createAll(reader);
+        if (result.hasErrors()) {
+            return ResponseEntity.badRequest().body(new BatchErrorsResource(result.getErrors()));
+        }
+        eventCountEstimator.add(result.getCreated());
+        result.add(eventModelAssembler.queryEventsLink(), PROFILE_BATCH);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
     @GetMapping
-    public ResponseEntity queryEvents(Pageable pageable, PagedResourcesAssembler<Event> assembler) {
-        Page<Event> page = eventRepository.findAll(pageable);
-        PagedModel<EntityModel<Event>> pagedModel = assembler.toModel(page,
-                event -> EntityModel.of(event,linkTo(EventController.class).slash(event.getId()).withSelfRel()));
-        pagedModel.add(Link.of("/docs/index.html#resources-events-list").withRel("profile"));
-        return ResponseEntity.ok(pagedModel);
+    @Transactional(readOnly = true)
+    public ResponseEntity queryEvents(EventSearch search, Pageable pageable, PagedResourcesAssembler<Event> assembler,
+                                      @RequestParam(required = false) String after,
+                                      @RequestParam(required = false) String before,
+                                      @RequestParam(defaultValue = "false") boolean keyset,
+                                      @RequestParam(defaultValue = "true") boolean withTotal) {
+        if (keyset || after != null || before != null) {
+            return queryEventsByKeyset(search, pageable, after, before);
+        }
+        Specification<Event> specification = EventSpecifications.of(search);
+        if (!withTotal) {
+            return queryEventsBySlice(specification, pageable);
+        }
+        if (!search.hasCriteria()) {
+            return queryEventsWithEstimatedTotal(specification, pageable, assembler);
+        }
+        Page<Event> page = eventPipelineMetrics.timer(Stage.PERSIST)
+                .record(() -> eventRepository.findAll(specification, pageable));
+        PagedModel<EntityModel<Event>> pagedModel = eventPipelineMetrics.timer(Stage.ASSEMBLE)
+                .record(() -> assembler.toModel(page, eventModelAssembler));
+        pagedModel.add(PROFILE_LIST);
+        return withETag(ResponseEntity.ok(),
+                EventETags.of(page.getContent(), page.getTotalElements(), page.hasNext(), page.hasPrevious()))
+                .body(pagedModel);
+    }
+
+    @GetMapping(params = "fields")
+    @Transactional(readOnly = true)
+    public ResponseEntity queryEventViews(EventSearch search, Pageable pageable, PagedResourcesAssembler<EventView> assembler,
+                                          @RequestParam String fields,
+                                          @RequestParam(required = false) String after,
+                                          @RequestParam(required = false) String before,
+                                          @RequestParam(defaultValue = "false") boolean keyset,
+                                          @RequestParam(defaultValue = "true") boolean withTotal) {
+        // Projections are offset-paged only; answering a keyset request with page 0 would look like a valid result
+        if (keyset || after != null || before != null) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<List<String>> selected = EventFields.parse(fields);
+        if (selected.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        Specification<Event> specification = EventSpecifications.of(search);
+        Slice<EventView> slice = eventPipelineMetrics.timer(Stage.PERSIST)
+                .record(() -> eventRepository.findViewSlice(specification, pageable, selected.get()));
+        if (!withTotal) {
+            return sliceResponse(slice, view -> eventModelAssembler.toModel(view),
+                    EventETags.of(slice.getContent(), EventView::getId, EventView::getVersion, slice.getNumberOfElements(),
+                            slice.hasNext(), slice.hasPrevious()));
+        }
+        Page<EventView> page = toPage(slice, pageable, specification, search.hasCriteria());
+        PagedModel<EntityModel<EventView>> pagedModel = withEstimate(page, eventPipelineMetrics.timer(Stage.ASSEMBLE)
+                .record(() -> assembler.toModel(page, view -> eventModelAssembler.toModel(view))));
+        pagedModel.add(PROFILE_LIST);
+        return withETag(ResponseEntity.ok(),
+                EventETags.of(page.getContent(), EventView::getId, EventView::getVersion, page.getTotalElements(),
+                        page.hasNext(), page.hasPrevious()))
+                .body(pagedModel);
+    }
+
+    /**
+     * Every event response is negotiated between HAL JSON and CBOR, and its ETag depends on which one was picked.
+     */
+    private static <B extends ResponseEntity.HeadersBuilder<B>> B withETag(B builder, String eTag) {
+        return builder.eTag(eTag).varyBy(HttpHeaders.ACCEPT);
+    }
+
+    private ResponseEntity queryEventsBySlice(Specification<Event> specification, Pageable pageable) {
+        Slice<Event> slice = eventPipelineMetrics.timer(Stage.PERSIST)
+                .record(() -> eventRepository.findSlice(specification, pageable));
+        return sliceResponse(slice, event -> eventModelAssembler.toModel(event),
+                EventETags.of(slice.getContent(), slice.getNumberOfElements(), slice.hasNext(), slice.hasPrevious()));
+    }
+
+    private ResponseEntity queryEventsWithEstimatedTotal(Specification<Event> specification, Pageable pageable,
+                                                         PagedResourcesAssembler<Event> assembler) {
+        Slice<Event> slice = eventPipelineMetrics.timer(Stage.PERSIST)
+                .record(() -> eventCache.findSlice(pageable));
+        Page<Event> page = toPage(slice, pageable, specification, false);
+        PagedModel<EntityModel<Event>> pagedModel = withEstimate(page, eventPipelineMetrics.timer(Stage.ASSEMBLE)
+                .record(() -> assembler.toModel(page, eventModelAssembler)));
+        pagedModel.add(PROFILE_LIST);
+        return withETag(ResponseEntity.ok(),
+                EventETags.of(page.getContent(), page.getTotalElements(), page.hasNext(), page.hasPrevious()))
+                .body(pagedModel);
+    }
+
+    private <T> ResponseEntity sliceResponse(Slice<T> slice, Function<T, EntityModel<T>> toModel, String eTag) {
+        PagedModel<EntityModel<T>> pagedModel = eventPipelineMetrics.timer(Stage.ASSEMBLE)
+                .record(() -> PagedModel.of(slice.map(toModel).getContent(),
+                        new SliceMetadata(slice.getSize(), slice.getNumber())));
+        pagedModel.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().build(true).toUriString()));
+        if (slice.hasPrevious()) {
+            pagedModel.add(pageLink(slice.getNumber() - 1).withRel(IanaLinkRelations.PREV));
+        }
+        if (slice.hasNext()) {
+            pagedModel.add(pageLink(slice.getNumber() + 1).withRel(IanaLinkRelations.NEXT));
+        }
+        pagedModel.add(PROFILE_LIST);
+        return withETag(ResponseEntity.ok(), eTag).body(pagedModel);
+    }
+
+    /**
+     * Builds a page from a slice, counting only when the slice alone can't tell the total.
+     * Unfiltered listings use the background row count instead and are marked as estimated.
+     */
+    private <T> Page<T> toPage(Slice<T> slice, Pageable pageable, Specification<Event> specification, boolean filtered) {
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0)) {
+            return new PageImpl<>(slice.getContent(), pageable, seen);
+        }
+        if (filtered) {
+            return new PageImpl<>(slice.getContent(), pageable, eventRepository.count(specification));
+        }
+        long total = Math.max(eventCountEstimator.estimate(), slice.hasNext() ? seen + 1 : seen);
+        return new EstimatedPage<>(slice.getContent(), pageable, total);
+    }
+
+    private <T> PagedModel<EntityModel<T>> withEstimate(Page<T> page, PagedModel<EntityModel<T>> pagedModel) {
+        if (!(page instanceof EstimatedPage)) {
+            return pagedModel;
+        }
+        return PagedModel.of(pagedModel.getContent(), new EstimatedPageMetadata(pagedModel.getMetadata()),
+                pagedModel.getLinks());
+    }
+
+    private Link pageLink(int page) {
+        return Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("page", page)
+                // The request's query string is already encoded
+                .build(true)
+                .toUriString());
+    }
+
+    private ResponseEntity queryEventsByKeyset(EventSearch search, Pageable pageable, String after, String before) {
+        if (after != null && before != null) {
+            return ResponseEntity.badRequest().build();
+        }
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+        Optional<KeysetProperty> property = KeysetProperty.of(order.getProperty());
+        if (property.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        EventCursor cursor = null;
+        String token = after != null ? after : before;
+        if (token != null) {
+            Optional<EventCursor> decoded = EventCursor.decode(token);
+            if (decoded.isEmpty() || !decoded.get().matches(property.get(), order.getDirection())) {
+                return ResponseEntity.badRequest().build();
+            }
+            cursor = decoded.get();
+        }
+
+        boolean backward = before != null;
+        EventKeyset keyset = EventKeyset.builder()
+                .specification(EventSpecifications.of(search))
+                .property(property.get())
+                .direction(order.getDirection())
+                .cursor(cursor)
+                .backward(backward)
+                .size(pageable.getPageSize())
+                .build();
+        List<Event> events = eventRepository.findKeyset(keyset);
+        boolean hasMore = events.size() > keyset.getSize();
+        if (hasMore) {
+            events = events.subList(0, keyset.getSize());
+        }
+        if (backward) {
+            events = new ArrayList<>(events);
+            Collections.reverse(events);
+        }
+
+        CollectionModel<EntityModel<Event>> collectionModel = eventModelAssembler.toCollectionModel(events)
+                .add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().build(true).toUriString()), PROFILE_LIST);
+        boolean hasNext = !events.isEmpty() && (backward || hasMore);
+        boolean hasPrev = !events.isEmpty() && (backward ? hasMore : cursor != null);
+        if (hasNext) {
+            EventCursor next = EventCursor.of(events.get(events.size() - 1), property.get(), order.getDirection());
+            collectionModel.add(keysetLink("after", next).withRel(IanaLinkRelations.NEXT));
+        }
+        if (hasPrev) {
+            EventCursor prev = EventCursor.of(events.get(0), property.get(), order.getDirection());
+            collectionModel.add(keysetLink("before", prev).withRel(IanaLinkRelations.PREV));
+        }
+        return withETag(ResponseEntity.ok(), EventETags.of(events, events.size(), hasNext, hasPrev)).body(collectionModel);
+    }
+
+    private Link keysetLink(String param, EventCursor cursor) {
+        return Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after")
+                .replaceQueryParam("before")
+                .replaceQueryParam("page")
+                .replaceQueryParam(param, cursor.encode())
+                // The request's query string is already encoded, and cursors are URL-safe Base64
+                .build(true)
+                .toUriString());
+    }
+
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportEvents(EventSearch search, @RequestParam(defaultValue = "ndjson") String format) {
+        Optional<EventExportFormat> exportFormat = EventExportFormat.of(format);
+        if (exportFormat.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = outputStream -> eventExporter.export(search, exportFormat.get(), outputStream);
+        return ResponseEntity.ok().contentType(exportFormat.get().getMediaType()).body(body);
+    }
+
+    @GetMapping("/search")
+    @Transactional(readOnly = true)
+    public ResponseEntity searchEvents(@RequestParam String q,
+                                       @RequestParam(defaultValue = "20") int size,
+                                       @RequestParam(required = false) String after) throws IOException {
+        if (q.isBlank() || q.length() > MAX_SEARCH_QUERY_LENGTH || size < 1 || size > MAX_SEARCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        EventSearchHit afterHit = null;
+        if (after != null) {
+            Optional<EventSearchHit> decoded = EventSearchHit.decode(after);
+            if (decoded.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+            afterHit = decoded.get();
+        }
+        List<EventSearchHit> hits = eventSearchIndex.search(q, size + 1, afterHit);
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+        List<Integer> ids = new ArrayList<>(hits.size());
+        for (EventSearchHit hit : hits) {
+            ids.add(hit.getId());
+        }
+        Map<Integer, Event> events = new HashMap<>();
+        for (Event event : eventRepository.findAllById(ids)) {
+            events.put(event.getId(), event);
+        }
+        List<EntityModel<Event>> models = new ArrayList<>(hits.size());
+        for (Integer id : ids) {
+            Event event = events.get(id);
+            if (event != null) {
+                models.add(eventModelAssembler.toModel(event));
+            }
+        }
+        CollectionModel<EntityModel<Event>> collectionModel = CollectionModel.of(models,
+                Link.of(ServletUriComponentsBuilder.fromCurrentRequest().build(true).toUriString()).withSelfRel(),
+                PROFILE_SEARCH);
+        if (hasNext) {
+            // q arrives encoded in the query string; the hit token is URL-safe Base64
+            collectionModel.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", hits.get(hits.size() - 1).encode())
+                    .build(true)
+                    .toUriString()).withRel(IanaLinkRelations.NEXT));
+        }
+        return ResponseEntity.ok(collectionModel);
+    }
+
+    @GetMapping("/changes")
+    public DeferredResult<ResponseEntity> queryChanges(@RequestParam(defaultValue = "0") long since,
+                                                       @RequestParam(defaultValue = "100") int limit,
+                                                       @RequestParam(defaultValue = "30000") long timeout) {
+        if (since < 0 || limit < 1 || limit > MAX_CHANGES || timeout < 0 || timeout > MAX_CHANGES_TIMEOUT) {
+            DeferredResult<ResponseEntity> badRequest = new DeferredResult<>();
+            badRequest.setResult(ResponseEntity.badRequest().build());
+            return badRequest;
+        }
+        // Links are rendered up front: a parked request is completed on the relay thread, outside the request
+        String eventsHref = RequestLinks.href(EventController.class);
+        UriComponentsBuilder selfBuilder = ServletUriComponentsBuilder.fromCurrentRequest();
+        Function<List<EventChange>, ResponseEntity> render =
+                changes -> ResponseEntity.ok(changesModel(changes, since, eventsHref, selfBuilder));
+
+        List<EventChange> changes = findChanges(since, limit);
+        if (!changes.isEmpty() || timeout == 0) {
+            DeferredResult<ResponseEntity> result = new DeferredResult<>();
+            result.setResult(render.apply(changes));
+            return result;
+        }
+        DeferredResult<ResponseEntity> result = new DeferredResult<>(timeout, render.apply(List.of()));
+        EventChangeFeed.Waiter waiter = eventChangeFeed.await(since, limit, relayed -> result.setResult(render.apply(relayed)));
+        result.onCompletion(waiter::cancel);
+        if (eventChangeFeed.getLastPosition() > since) {
+            // A relay ran between the query and the registration above
+            List<EventChange> missed = findChanges(since, limit);
+            if (!missed.isEmpty()) {
+                waiter.cancel();
+                result.setResult(render.apply(missed));
+            }
+        }
+        return result;
+    }
+
+    private List<EventChange> findChanges(long since, int limit) {
+        return eventChangeRepository.findByPositionGreaterThanOrderByPosition(since, PageRequest.of(0, limit));
+    }
+
+    private CollectionModel<EntityModel<EventChange>> changesModel(List<EventChange> changes, long since, String eventsHref,
+                                                                   UriComponentsBuilder selfBuilder) {
+        List<EntityModel<EventChange>> models = new ArrayList<>(changes.size());
+        for (EventChange change : changes) {
+            models.add(EntityModel.of(change, Link.of(eventsHref + "/" + change.getEventId(), "event")));
+        }
+        long next = changes.isEmpty() ? since : changes.get(changes.size() - 1).getPosition();
+        return CollectionModel.of(models,
+                Link.of(selfBuilder.cloneBuilder().build(true).toUriString()).withSelfRel(),
+                Link.of(selfBuilder.cloneBuilder().replaceQueryParam("since", next).build(true).toUriString())
+                        .withRel(IanaLinkRelations.NEXT),
+                PROFILE_CHANGES);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@RequestParam(required = false) Set<EventChangeType> type,
+                                                   @RequestParam(required = false) Set<String> field,
+                                                   @RequestParam(required = false) Set<EventStatus> eventStatus,
+                                                   @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) throws IOException {
+        EventStreamFilter filter = EventStreamFilter.builder()
+                .types(type == null ? Set.of() : type)
+                .fields(field == null ? Set.of() : field)
+                .statuses(eventStatus == null ? Set.of() : eventStatus)
+                .build();
+        return ResponseEntity.ok(eventStreamHub.subscribe(filter, lastEventId, null));
+    }
+
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvent(@PathVariable Integer id,
+                                                  @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) throws IOException {
+        Optional<Event> optionalEvent = eventCache.findById(id);
+        if (optionalEvent.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        EventStreamFilter filter = EventStreamFilter.builder().eventId(id).build();
+        return ResponseEntity.ok(eventStreamHub.subscribe(filter, lastEventId, optionalEvent.get()));
+    }
+
+    // Not wrapped in a read-only transaction: the cache fill has to reach the primary, which it
+    // can't once a replica connection is bound. The repository reads are read-only on their own.
     @GetMapping("/{id}")
-    public ResponseEntity getEvent(@PathVariable Integer id) {
-        Optional<Event> optionalEvent = eventRepository.findById(id);
+    public ResponseEntity getEvent(@PathVariable Integer id,
+                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = eventRepository.findVersionById(id);
+            if (version.isPresent() && EventETags.matchesWeak(ifNoneMatch, version.get())) {
+                return withETag(ResponseEntity.status(HttpStatus.NOT_MODIFIED), EventETags.of(version.get())).build();
+            }
+        }
+        Optional<Event> optionalEvent = eventPipelineMetrics.timer(Stage.PERSIST).record(() -> eventCache.findById(id));
         if (optionalEvent.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
         Event event = optionalEvent.get();
-        EntityModel<Event> eventEntityModel = EntityModel.of(event,
-                linkTo(EventController.class).slash(event.getId()).withSelfRel(), Link.of("/docs/index" +
-                        ".html#resources-events-get").withRel("profile"));
-        return ResponseEntity.ok(eventEntityModel);
+        EntityModel<Event> eventEntityModel = eventPipelineMetrics.timer(Stage.ASSEMBLE)
+                .record(() -> eventModelAssembler.toModel(event, PROFILE_GET));
+        return withETag(ResponseEntity.ok(), EventETags.of(event.getVersion())).body(eventEntityModel);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @Transactional(readOnly = true)
+    public ResponseEntity getEventView(@PathVariable Integer id, @RequestParam String fields) {
+        Optional<List<String>> selected = EventFields.parse(fields);
+        if (selected.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<EventView> view = eventPipelineMetrics.timer(Stage.PERSIST)
+                .record(() -> eventRepository.findViewById(id, selected.get()));
+        if (view.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        EntityModel<EventView> viewEntityModel = eventModelAssembler.toModel(view.get(), PROFILE_GET);
+        return withETag(ResponseEntity.ok(), EventETags.of(view.get().getVersion())).body(viewEntityModel);
     }
 
     @PutMapping("/{id}")
     @Transactional
     public ResponseEntity updateEvent(@PathVariable Integer id,
-                                      @RequestBody @Valid EventDto eventDto, Errors errors) {
+                                      @RequestBody @Valid EventDto eventDto, Errors errors,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Optional<Event> optionalEvent = eventRepository.findById(id);
         if (optionalEvent.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        if (ifMatch != null && !EventETags.matchesStrong(ifMatch, optionalEvent.get().getVersion())) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
         if (errors.hasErrors()) {
             return ResponseEntity.badRequest().build();
         }
-        eventValidator.validate(eventDto, errors);
+        eventPipelineMetrics.timer(Stage.VALIDATE).record(() -> eventValidator.validate(eventDto, errors));
         if (errors.hasErrors()) {
             return ResponseEntity.badRequest().body(new ErrorsResource(errors));
         }
         Event existingEvent = optionalEvent.get();
-        modelMapper.map(eventDto, existingEvent);
-        Event savedEvent = eventRepository.save(existingEvent);
-        EntityModel<Event> eventEntityModel = EntityModel.of(savedEvent,
-                linkTo(EventController.class).slash(savedEvent.getId()).withSelfRel(), Link.of("/docs/index" +
-                        ".html#resources-events-update"));
+        eventPipelineMetrics.timer(Stage.MAP).record(() -> eventMapper.updateEvent(eventDto, existingEvent));
+        Event savedEvent = eventPipelineMetrics.timer(Stage.PERSIST).record(() -> eventRepository.saveAndFlush(existingEvent));
+        eventCache.evict(savedEvent.getId());
+        eventSearchIndex.index(savedEvent);
+        eventOutbox.updated(savedEvent);
+        eventLifecycleScheduler.schedule(savedEvent);
+        eventEnrollments.invalidate(savedEvent.getId());
+        EntityModel<Event> eventEntityModel = eventPipelineMetrics.timer(Stage.ASSEMBLE)
+                .record(() -> eventModelAssembler.toModel(savedEvent, PROFILE_UPDATE));
+
+        return withETag(ResponseEntity.ok(), EventETags.of(savedEvent.getVersion())).body(eventEntityModel);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = "application/merge-patch+json")
+    @Transactional
+    public ResponseEntity patchEvent(@PathVariable Integer id, @RequestBody JsonNode patch,
+                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (!patch.isObject()) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<Event> optionalEvent = eventRepository.findById(id);
+        if (optionalEvent.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Event existingEvent = optionalEvent.get();
+        if (ifMatch != null && !EventETags.matchesStrong(ifMatch, existingEvent.getVersion())) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        EventPatch eventPatch;
+        try {
+            eventPatch = eventPatcher.patch(existingEvent, (ObjectNode) patch);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (eventPatch.getErrors().hasErrors()) {
+            return ResponseEntity.badRequest().body(new ErrorsResource(eventPatch.getErrors()));
+        }
+        if (!eventPatch.hasChanges()) {
+            return withETag(ResponseEntity.ok(), EventETags.of(existingEvent.getVersion()))
+                    .body(eventModelAssembler.toModel(existingEvent, PROFILE_PATCH));
+        }
+        eventPipelineMetrics.timer(Stage.MAP).record(() -> eventMapper.updateEvent(eventPatch.getEventDto(), existingEvent));
+        Event savedEvent = eventPipelineMetrics.timer(Stage.PERSIST).record(() -> eventRepository.saveAndFlush(existingEvent));
+        eventCache.evict(savedEvent.getId());
+        eventSearchIndex.index(savedEvent);
+        eventOutbox.updated(savedEvent, eventPatch.getChangedFields());
+        eventLifecycleScheduler.schedule(savedEvent);
+        eventEnrollments.invalidate(savedEvent.getId());
+        EntityModel<Event> eventEntityModel = eventPipelineMetrics.timer(Stage.ASSEMBLE)
+                .record(() -> eventModelAssembler.toModel(savedEvent, PROFILE_PATCH));
+
+        return withETag(ResponseEntity.ok(), EventETags.of(savedEvent.getVersion())).body(eventEntityModel);
+    }
+
+    @PostMapping("/{id}/enrollments")
+    public ResponseEntity enroll(@PathVariable Integer id) {
+        Optional<Event> optionalEvent = eventCache.findById(id);
+        if (optionalEvent.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        switch (eventEnrollments.enroll(optionalEvent.get())) {
+            case ENROLLED:
+                var enrollment = new RepresentationModel<>();
+                enrollment.add(eventModelAssembler.eventLink(id, "event"), PROFILE_ENROLL);
+                return ResponseEntity.status(HttpStatus.CREATED).body(enrollment);
+            case NOT_FOUND:
+                return ResponseEntity.notFound().build();
+            default:
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
 
-        return ResponseEntity.ok(eventEntityModel);
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity handleOptimisticLockingFailure() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 }
@@ -0,0 +1,38 @@
+package me.hyungjun.springrestapi.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Row count of the whole event table, refreshed in the background so unfiltered
+ * listings don't pay for a {@code count(*)} on every page.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EventCountEstimator {
+
+    private final EventRepository eventRepository;
+    private final AtomicLong count = new AtomicLong(-1);
+
+    public long estimate() {
+        if (count.get() < 0) {
+            refresh();
+        }
+        return count.get();
+    }
+
+    public void add(long delta) {
+        count.accumulateAndGet(delta, (current, added) -> current < 0 ? current : current + added);
+    }
+
+    @Scheduled(initialDelayString = "${events.count.refresh-interval:60000}",
+            fixedDelayString = "${events.count.refresh-interval:60000}")
+    public void refresh() {
+        count.set(eventRepository.count());
+    }
+}
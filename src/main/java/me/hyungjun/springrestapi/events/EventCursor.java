@@ -0,0 +1,61 @@
+package me.hyungjun.springrestapi.events;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventCursor {
+
+    private static final String SEPARATOR = "\u0000";
+    // Values carry a prefix so that a null sort key is an empty field rather than the string "null"
+    private static final String VALUE_PREFIX = "=";
+
+    private final KeysetProperty property;
+    private final Sort.Direction direction;
+    private final Comparable<?> value;
+    private final Integer id;
+
+    public static EventCursor of(Event event, KeysetProperty property, Sort.Direction direction) {
+        return new EventCursor(property, direction, property.valueOf(event), event.getId());
+    }
+
+    public String encode() {
+        String encodedValue = value == null ? "" : VALUE_PREFIX + value;
+        String raw = String.join(SEPARATOR, property.name(), direction.name(), encodedValue, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<EventCursor> decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 4) {
+                return Optional.empty();
+            }
+            KeysetProperty property = KeysetProperty.valueOf(parts[0]);
+            Comparable<?> value = null;
+            if (!parts[2].isEmpty()) {
+                if (!parts[2].startsWith(VALUE_PREFIX)) {
+                    return Optional.empty();
+                }
+                value = property.parse(parts[2].substring(VALUE_PREFIX.length()));
+            } else if (!property.isNullable()) {
+                return Optional.empty();
+            }
+            return Optional.of(new EventCursor(property, Sort.Direction.valueOf(parts[1]), value, Integer.valueOf(parts[3])));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public boolean matches(KeysetProperty property, Sort.Direction direction) {
+        return this.property == property && this.direction == direction;
+    }
+}
@@ -0,0 +1,113 @@
+package me.hyungjun.springrestapi.events;
+
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Version-based validators for event resources. HAL JSON and CBOR renderings of the same version are different
+ * bytes, so the tag carries the representation the request negotiates, and responses vary by {@code Accept}.
+ * <p>
+ * Single events get strong tags, which {@code If-Match} needs. Listings get weak ones: they are what crosses the
+ * compression threshold, and Tomcat doesn't compress responses with a strong ETag.
+ */
+final class EventETags {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String CBOR_SUFFIX = "+cbor";
+
+    private EventETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + representation() + "\"";
+    }
+
+    static String of(List<Event> events, long totalElements, boolean hasNext, boolean hasPrevious) {
+        return of(events, Event::getId, Event::getVersion, totalElements, hasNext, hasPrevious);
+    }
+
+    /**
+     * A listing's tag covers its rows and whether it links onward, so a page whose next or prev link appears or
+     * disappears with the same rows is still modified.
+     */
+    static <T> String of(List<T> items, Function<T, Integer> id, Function<T, Long> version, long totalElements,
+                         boolean hasNext, boolean hasPrevious) {
+        long hash = 1125899906842597L;
+        for (T item : items) {
+            Long itemVersion = version.apply(item);
+            hash = 31 * hash + id.apply(item);
+            hash = 31 * hash + (itemVersion == null ? 0 : itemVersion);
+        }
+        hash = 31 * hash + totalElements;
+        hash = 31 * hash + (hasNext ? 1 : 0);
+        hash = 31 * hash + (hasPrevious ? 1 : 0);
+        return WEAK_PREFIX + "\"" + Long.toHexString(hash) + representation() + "\"";
+    }
+
+    static boolean matchesWeak(String header, Long version) {
+        return matches(header, version, true);
+    }
+
+    static boolean matchesStrong(String header, Long version) {
+        return matches(header, version, false);
+    }
+
+    private static boolean matches(String header, Long version, boolean weak) {
+        String eTag = of(version);
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith(WEAK_PREFIX)) {
+                if (!weak) {
+                    continue;
+                }
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The suffix for the representation the current request negotiates: none for HAL JSON, the default when nothing
+     * more specific is asked for, and {@value #CBOR_SUFFIX} when CBOR is preferred.
+     */
+    private static String representation() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return "";
+        }
+        String accept = ((ServletRequestAttributes) attributes).getRequest().getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return "";
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON) || mediaType.includes(MediaTypes.HAL_JSON)) {
+                return "";
+            }
+            if (mediaType.includes(MediaType.APPLICATION_CBOR)) {
+                return CBOR_SUFFIX;
+            }
+        }
+        return "";
+    }
+}
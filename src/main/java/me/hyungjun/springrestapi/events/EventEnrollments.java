@@ -0,0 +1,118 @@
+package me.hyungjun.springrestapi.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EventEnrollments {
+
+    private final EventRepository eventRepository;
+    private final ConcurrentHashMap<Integer, Slot> slots = new ConcurrentHashMap<>();
+
+    public EnrollmentResult enroll(Event event) {
+        if (!isOpen(event, LocalDateTime.now())) {
+            return EnrollmentResult.CLOSED;
+        }
+        Integer id = event.getId();
+        Slot slot = slots.computeIfAbsent(id, this::load);
+        if (slot == null) {
+            return EnrollmentResult.NOT_FOUND;
+        }
+        if (!slot.tryAcquire()) {
+            return EnrollmentResult.FULL;
+        }
+
+        CompletableFuture<Boolean> ticket = new CompletableFuture<>();
+        slot.pending.add(ticket);
+        slot.lock.lock();
+        try {
+            if (!ticket.isDone()) {
+                flush(id, slot);
+            }
+        } finally {
+            slot.lock.unlock();
+        }
+        return ticket.join() ? EnrollmentResult.ENROLLED : EnrollmentResult.FULL;
+    }
+
+    public void invalidate(Integer id) {
+        slots.remove(id);
+    }
+
+    /**
+     * Enrollment is open in {@code BEGIN_ENROLLMENT} and inside the enrollment period; the period is checked as well
+     * because the lifecycle scheduler moves the status a tick after the timestamps pass.
+     */
+    static boolean isOpen(Event event, LocalDateTime now) {
+        if (event.getEventStatus() != EventStatus.BEGIN_ENROLLMENT) {
+            return false;
+        }
+        LocalDateTime begin = event.getBeginEnrollmentDateTime();
+        LocalDateTime close = event.getCloseEnrollmentDateTime();
+        return (begin == null || !now.isBefore(begin)) && (close == null || now.isBefore(close));
+    }
+
+    private Slot load(Integer id) {
+        Optional<Integer> remaining = eventRepository.findRemainingEnrollments(id);
+        return remaining.map(Slot::new).orElse(null);
+    }
+
+    private void flush(Integer id, Slot slot) {
+        List<CompletableFuture<Boolean>> batch = new ArrayList<>();
+        CompletableFuture<Boolean> ticket;
+        while ((ticket = slot.pending.poll()) != null) {
+            batch.add(ticket);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        boolean applied;
+        try {
+            applied = eventRepository.addEnrollments(id, batch.size()) == 1;
+        } catch (RuntimeException e) {
+            slots.remove(id, slot);
+            batch.forEach(pending -> pending.completeExceptionally(e));
+            return;
+        }
+        if (!applied) {
+            slots.remove(id, slot);
+        }
+        batch.forEach(pending -> pending.complete(applied));
+    }
+
+    private static class Slot {
+
+        private final AtomicInteger remaining;
+        private final Queue<CompletableFuture<Boolean>> pending = new ConcurrentLinkedQueue<>();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        Slot(int remaining) {
+            this.remaining = new AtomicInteger(remaining);
+        }
+
+        boolean tryAcquire() {
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package me.hyungjun.springrestapi.events;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum EventExportFormat {
+
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String name;
+    private final MediaType mediaType;
+
+    EventExportFormat(String name, MediaType mediaType) {
+        this.name = name;
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static Optional<EventExportFormat> of(String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name.equalsIgnoreCase(name))
+                .findFirst();
+    }
+}
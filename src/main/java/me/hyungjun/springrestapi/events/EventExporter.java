@@ -0,0 +1,117 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Component
+@Profile("!reactive")
+public class EventExporter {
+
+    private static final String CSV_HEADER = "id,name,description,beginEnrollmentDateTime,closeEnrollmentDateTime," +
+            "beginEventDateTime,endEventDateTime,location,basePrice,maxPrice,limitOfEnrollment,offline,free,eventStatus";
+
+    private final EventRepository eventRepository;
+    private final ObjectWriter eventWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EventExporter(EventRepository eventRepository, ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${events.export.fetch-size:500}") int fetchSize) {
+        this.eventRepository = eventRepository;
+        this.eventWriter = objectMapper.writerFor(Event.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    public void export(EventSearch search, EventExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Event> events = eventRepository.streamAll(EventSpecifications.of(search), fetchSize)) {
+                    write(events, format, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void write(Stream<Event> events, EventExportFormat format, Writer writer) throws IOException {
+        if (format == EventExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        int count = 0;
+        Iterator<Event> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            Event event = iterator.next();
+            if (format == EventExportFormat.CSV) {
+                writeCsv(event, writer);
+            } else {
+                writer.write(eventWriter.writeValueAsString(event));
+            }
+            writer.write('\n');
+            if (++count % fetchSize == 0) {
+                entityManager.clear();
+                writer.flush();
+            }
+        }
+    }
+
+    private void writeCsv(Event event, Writer writer) throws IOException {
+        writer.write(String.valueOf(event.getId()));
+        writeCsvField(event.getName(), writer);
+        writeCsvField(event.getDescription(), writer);
+        writeCsvField(event.getBeginEnrollmentDateTime(), writer);
+        writeCsvField(event.getCloseEnrollmentDateTime(), writer);
+        writeCsvField(event.getBeginEventDateTime(), writer);
+        writeCsvField(event.getEndEventDateTime(), writer);
+        writeCsvField(event.getLocation(), writer);
+        writeCsvField(event.getBasePrice(), writer);
+        writeCsvField(event.getMaxPrice(), writer);
+        writeCsvField(event.getLimitOfEnrollment(), writer);
+        writeCsvField(event.isOffline(), writer);
+        writeCsvField(event.isFree(), writer);
+        writeCsvField(event.getEventStatus(), writer);
+    }
+
+    private void writeCsvField(Object value, Writer writer) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,52 @@
+package me.hyungjun.springrestapi.events;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Fields of {@link EventDto} that {@link EventRule}s depend on or reject. Each field owns one bit so a set of
+ * fields travels as an {@code int} mask; constants are declared in the order their errors are reported.
+ */
+public enum EventField {
+
+    BASE_PRICE("basePrice", "BasePrice is wrong", null),
+    MAX_PRICE("maxPrice", "MaxPrice is wrong", null),
+    END_EVENT_DATE_TIME("endEventDateTime", "EndEventDateTime is wrong", EventDto::getEndEventDateTime),
+    BEGIN_EVENT_DATE_TIME("beginEventDateTime", "BeginEventDateTime is wrong", EventDto::getBeginEventDateTime),
+    CLOSE_ENROLLMENT_DATE_TIME("closeEnrollmentDateTime", "CloseEnrollmentDateTime is wrong", EventDto::getCloseEnrollmentDateTime),
+    BEGIN_ENROLLMENT_DATE_TIME("beginEnrollmentDateTime", "BeginEnrollmentDateTime is wrong", EventDto::getBeginEnrollmentDateTime);
+
+    static final EventField[] VALUES = values();
+    static final int ALL = (1 << VALUES.length) - 1;
+
+    final String property;
+    final String message;
+    final Function<EventDto, LocalDateTime> dateTime;
+    final int bit;
+
+    EventField(String property, String message, Function<EventDto, LocalDateTime> dateTime) {
+        this.property = property;
+        this.message = message;
+        this.dateTime = dateTime;
+        this.bit = 1 << ordinal();
+    }
+
+    static int mask(EventField... fields) {
+        int mask = 0;
+        for (EventField field : fields) {
+            mask |= field.bit;
+        }
+        return mask;
+    }
+
+    static int mask(Collection<String> properties) {
+        int mask = 0;
+        for (EventField field : VALUES) {
+            if (properties.contains(field.property)) {
+                mask |= field.bit;
+            }
+        }
+        return mask;
+    }
+}
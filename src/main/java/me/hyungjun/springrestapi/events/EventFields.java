@@ -0,0 +1,29 @@
+package me.hyungjun.springrestapi.events;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+final class EventFields {
+
+    private static final Set<String> SELECTABLE = Set.of("id", "name", "description",
+            "beginEnrollmentDateTime", "closeEnrollmentDateTime", "beginEventDateTime", "endEventDateTime",
+            "location", "basePrice", "maxPrice", "limitOfEnrollment", "offline", "free", "eventStatus");
+
+    private EventFields() {
+    }
+
+    static Optional<List<String>> parse(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!SELECTABLE.contains(name)) {
+                return Optional.empty();
+            }
+            selected.add(name);
+        }
+        return Optional.of(new ArrayList<>(selected));
+    }
+}
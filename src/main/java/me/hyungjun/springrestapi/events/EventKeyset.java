@@ -0,0 +1,21 @@
+package me.hyungjun.springrestapi.events;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+@Getter @Builder
+public class EventKeyset {
+
+    private Specification<Event> specification;
+    private KeysetProperty property;
+    private Sort.Direction direction;
+    private EventCursor cursor;
+    private boolean backward;
+    private int size;
+
+    public Sort.Direction getQueryDirection() {
+        return backward ? direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC : direction;
+    }
+}
@@ -0,0 +1,136 @@
+package me.hyungjun.springrestapi.events;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Component
+@Profile("!reactive")
+public class EventLifecycleScheduler {
+
+    private final EventRepository eventRepository;
+    private final EventCache eventCache;
+    private final EventOutbox eventOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<EventTransition, Timer> lagTimers = new EnumMap<>(EventTransition.class);
+    private final Map<EventTransition, DistributionSummary> batchSizes = new EnumMap<>(EventTransition.class);
+    private final NavigableMap<LocalDateTime, Set<EventTransition>> timeline = new TreeMap<>();
+
+    public EventLifecycleScheduler(EventRepository eventRepository, EventCache eventCache, EventOutbox eventOutbox,
+                                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.eventCache = eventCache;
+        this.eventOutbox = eventOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (EventTransition transition : EventTransition.values()) {
+            lagTimers.put(transition, Timer.builder("events.lifecycle.lag")
+                    .tag("transition", transition.name())
+                    .register(meterRegistry));
+            batchSizes.put(transition, DistributionSummary.builder("events.lifecycle.batch.size")
+                    .tag("transition", transition.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Adds the event's upcoming transitions to the timeline. Inside a transaction this waits for the commit, otherwise
+     * a tick could run first, find no row to move and drop the bucket until the next reseed.
+     */
+    public void schedule(Event event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleTransitions(event);
+                }
+            });
+            return;
+        }
+        scheduleTransitions(event);
+    }
+
+    private void scheduleTransitions(Event event) {
+        for (EventTransition transition : EventTransition.values()) {
+            LocalDateTime dueAt = transition.dueAt(event);
+            if (dueAt != null && transition.isPending(event.getEventStatus())) {
+                schedule(transition, dueAt);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${events.lifecycle.reseed-interval:300000}",
+            fixedDelayString = "${events.lifecycle.reseed-interval:300000}")
+    public void reseed() {
+        for (EventTransition transition : EventTransition.values()) {
+            reseed(transition);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.lifecycle.tick:1000}")
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<EventTransition, LocalDateTime> due = new EnumMap<>(EventTransition.class);
+        synchronized (timeline) {
+            NavigableMap<LocalDateTime, Set<EventTransition>> bucket = timeline.headMap(now, true);
+            bucket.forEach((dueAt, transitions) -> transitions.forEach(transition -> due.putIfAbsent(transition, dueAt)));
+            bucket.clear();
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        boolean upstreamMoved = false;
+        boolean changed = false;
+        for (EventTransition transition : EventTransition.values()) {
+            if (!due.containsKey(transition) && !upstreamMoved) {
+                continue;
+            }
+            Integer moved = transactionTemplate.execute(status ->
+                    eventRepository.applyTransition(transition, eventOutbox.transitioning(transition, now)));
+            upstreamMoved = moved != null && moved > 0;
+            if (upstreamMoved) {
+                changed = true;
+                batchSizes.get(transition).record(moved);
+                LocalDateTime dueAt = due.get(transition);
+                if (dueAt != null) {
+                    lagTimers.get(transition).record(Duration.between(dueAt, now));
+                }
+            }
+            reseed(transition);
+        }
+        if (changed) {
+            eventCache.evictAll();
+        }
+    }
+
+    private void reseed(EventTransition transition) {
+        eventRepository.findNextDue(transition).ifPresent(dueAt -> schedule(transition, dueAt));
+    }
+
+    private void schedule(EventTransition transition, LocalDateTime dueAt) {
+        LocalDateTime bucket = dueAt.truncatedTo(ChronoUnit.SECONDS);
+        synchronized (timeline) {
+            timeline.computeIfAbsent(bucket, key -> EnumSet.noneOf(EventTransition.class)).add(transition);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package me.hyungjun.springrestapi.events;
+
+import org.mapstruct.Builder;
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true))
+public interface EventMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "free", ignore = true)
+    @Mapping(target = "offline", ignore = true)
+    @Mapping(target = "eventStatus", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "numberOfEnrollment", ignore = true)
+    Event toEvent(EventDto eventDto);
+
+    @InheritConfiguration(name = "toEvent")
+    void updateEvent(EventDto eventDto, @MappingTarget Event event);
+
+    EventDto toDto(Event event);
+}
@@ -0,0 +1,42 @@
+package me.hyungjun.springrestapi.events;
+
+import me.hyungjun.springrestapi.common.RequestLinks;
+import org.springframework.context.annotation.Profile;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!reactive")
+public class EventModelAssembler implements RepresentationModelAssembler<Event, EntityModel<Event>> {
+
+    @Override
+    public EntityModel<Event> toModel(Event event) {
+        return EntityModel.of(event, selfLink(event.getId()));
+    }
+
+    public EntityModel<Event> toModel(Event event, Link... links) {
+        return toModel(event).add(links);
+    }
+
+    public EntityModel<EventView> toModel(EventView view, Link... links) {
+        return EntityModel.of(view, selfLink(view.getId())).add(links);
+    }
+
+    public Link selfLink(Integer id) {
+        return Link.of(eventsHref() + "/" + id);
+    }
+
+    public Link eventLink(Integer id, String rel) {
+        return Link.of(eventsHref() + "/" + id, rel);
+    }
+
+    public Link queryEventsLink() {
+        return Link.of(eventsHref(), "query-events");
+    }
+
+    public String eventsHref() {
+        return RequestLinks.href(EventController.class);
+    }
+}
@@ -0,0 +1,71 @@
+package me.hyungjun.springrestapi.events;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes {@link EventChange}s in the caller's transaction, so a change is recorded if and only if the mutation
+ * itself commits.
+ */
+@Component
+@Profile("!reactive")
+@Transactional(propagation = Propagation.MANDATORY)
+public class EventOutbox {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void created(Event event) {
+        record(event.getId(), EventChangeType.CREATED, event.getVersion(), null, LocalDateTime.now());
+    }
+
+    public void updated(Event event) {
+        record(event.getId(), EventChangeType.UPDATED, event.getVersion(), null, LocalDateTime.now());
+    }
+
+    public void updated(Event event, Collection<String> fields) {
+        record(event.getId(), EventChangeType.UPDATED, event.getVersion(), String.join(",", fields), LocalDateTime.now());
+    }
+
+    /**
+     * Records the events {@link EventRepository#applyTransition} is about to move and returns their ids. The rows are
+     * locked, and the bulk update that follows in the same transaction targets exactly these ids, so a row committed
+     * after this select can't move without a record.
+     */
+    public List<Integer> transitioning(EventTransition transition, LocalDateTime now) {
+        List<Object[]> rows = entityManager.createQuery("select e.id, e.version from Event e " +
+                        "where e.eventStatus in :from and e." + transition.getProperty() + " <= :now", Object[].class)
+                .setParameter("from", transition.getFrom())
+                .setParameter("now", now)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        List<Integer> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Integer id = (Integer) row[0];
+            Long version = (Long) row[1];
+            record(id, EventChangeType.STATUS_CHANGED, version == null ? null : version + 1, "eventStatus", now);
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private void record(Integer eventId, EventChangeType type, Long version, String fields, LocalDateTime changedAt) {
+        entityManager.persist(EventChange.builder()
+                .eventId(eventId)
+                .type(type)
+                .version(version)
+                .fields(fields)
+                .changedAt(changedAt)
+                .build());
+    }
+}
@@ -0,0 +1,91 @@
+package me.hyungjun.springrestapi.events;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves committed outbox records to the change feed in batches. Positions continue from the highest published one;
+ * if a relay on another node claims the same positions first, the unique index rejects this batch and it is retried
+ * on the next run, which keeps positions gap-free in commit order.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class EventOutboxRelay {
+
+    private final EventChangeRepository eventChangeRepository;
+    private final EventChangeFeed eventChangeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+    private final DistributionSummary batchSizes;
+    private final Timer lag;
+
+    public EventOutboxRelay(EventChangeRepository eventChangeRepository, EventChangeFeed eventChangeFeed,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                            @Value("${events.outbox.batch-size:500}") int batchSize,
+                            @Value("${events.outbox.retention:P7D}") Duration retention) {
+        this.eventChangeRepository = eventChangeRepository;
+        this.eventChangeFeed = eventChangeFeed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.batchSizes = DistributionSummary.builder("events.outbox.relay.batch.size").register(meterRegistry);
+        this.lag = Timer.builder("events.outbox.lag").register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${events.outbox.relay-interval:200}",
+            fixedDelayString = "${events.outbox.relay-interval:200}")
+    public void relay() {
+        List<EventChange> batch;
+        do {
+            try {
+                batch = transactionTemplate.execute(status -> relayBatch());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Outbox positions were claimed by another relay, retrying on the next run", e);
+                return;
+            }
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            batchSizes.record(batch.size());
+            eventChangeFeed.published(batch);
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(cron = "${events.outbox.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        transactionTemplate.executeWithoutResult(status ->
+                eventChangeRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+    }
+
+    private List<EventChange> relayBatch() {
+        List<EventChange> pending = eventChangeRepository.findByPositionIsNullOrderById(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return pending;
+        }
+        Long maxPosition = eventChangeRepository.findMaxPosition();
+        long position = maxPosition == null ? 0 : maxPosition;
+        LocalDateTime now = LocalDateTime.now();
+        for (EventChange change : pending) {
+            change.publish(++position, now);
+            lag.record(Duration.between(change.getChangedAt(), now));
+        }
+        eventChangeRepository.flush();
+        return pending;
+    }
+}
@@ -0,0 +1,20 @@
+package me.hyungjun.springrestapi.events;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.Errors;
+
+import java.util.Set;
+
+@Getter
+@RequiredArgsConstructor
+public class EventPatch {
+
+    private final EventDto eventDto;
+    private final Set<String> changedFields;
+    private final Errors errors;
+
+    public boolean hasChanges() {
+        return !changedFields.isEmpty();
+    }
+}
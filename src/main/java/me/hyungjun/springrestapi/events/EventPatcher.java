@@ -0,0 +1,59 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Applies a JSON Merge Patch (RFC 7396) to the current state of an event. Only the members present in the patch
+ * whose value actually differs are reported as changed, and only those are validated.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EventPatcher {
+
+    private final EventMapper eventMapper;
+    private final EventValidator eventValidator;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public EventPatch patch(Event event, ObjectNode patch) throws IOException {
+        EventDto current = eventMapper.toDto(event);
+        EventDto patched = objectMapper.readerForUpdating(eventMapper.toDto(event)).readValue(patch);
+
+        BeanWrapper before = PropertyAccessorFactory.forBeanPropertyAccess(current);
+        BeanWrapper after = PropertyAccessorFactory.forBeanPropertyAccess(patched);
+        Set<String> changedFields = new LinkedHashSet<>();
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!Objects.equals(before.getPropertyValue(field), after.getPropertyValue(field))) {
+                changedFields.add(field);
+            }
+        });
+
+        Errors errors = new BeanPropertyBindingResult(patched, "eventDto");
+        for (String field : changedFields) {
+            for (ConstraintViolation<EventDto> violation : validator.validateProperty(patched, field)) {
+                String code = violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
+                errors.rejectValue(field, code, violation.getMessage());
+            }
+        }
+        if (!errors.hasErrors()) {
+            eventValidator.validate(patched, errors, changedFields);
+        }
+        return new EventPatch(patched, changedFields, errors);
+    }
+}
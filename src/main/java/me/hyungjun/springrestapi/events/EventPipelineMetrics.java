@@ -0,0 +1,32 @@
+package me.hyungjun.springrestapi.events;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class EventPipelineMetrics {
+
+    public enum Stage {
+        VALIDATE, MAP, PERSIST, ASSEMBLE
+    }
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+
+    public EventPipelineMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder("events.pipeline")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public Timer timer(Stage stage) {
+        return timers.get(stage);
+    }
+}
@@ -1,6 +1,26 @@
 package me.hyungjun.springrestapi.events;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
+import java.util.Optional;
+
+public interface EventRepository extends JpaRepository<Event, Integer>, JpaSpecificationExecutor<Event>,
+        EventRepositoryCustom {
+
+    @Query("select e.version from Event e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Integer id);
+
+    @Query("select e.limitOfEnrollment - e.numberOfEnrollment from Event e where e.id = :id")
+    Optional<Integer> findRemainingEnrollments(@Param("id") Integer id);
+
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.numberOfEnrollment = e.numberOfEnrollment + :count " +
+            "where e.id = :id and e.numberOfEnrollment + :count <= e.limitOfEnrollment")
+    int addEnrollments(@Param("id") Integer id, @Param("count") int count);
 }
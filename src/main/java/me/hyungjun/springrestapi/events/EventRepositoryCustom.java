@@ -0,0 +1,27 @@
+package me.hyungjun.springrestapi.events;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface EventRepositoryCustom {
+
+    List<Event> findKeyset(EventKeyset keyset);
+
+    Slice<Event> findSlice(Specification<Event> specification, Pageable pageable);
+
+    Slice<EventView> findViewSlice(Specification<Event> specification, Pageable pageable, List<String> fields);
+
+    Optional<EventView> findViewById(Integer id, List<String> fields);
+
+    Stream<Event> streamAll(Specification<Event> specification, int fetchSize);
+
+    int applyTransition(EventTransition transition, List<Integer> ids);
+
+    Optional<LocalDateTime> findNextDue(EventTransition transition);
+}
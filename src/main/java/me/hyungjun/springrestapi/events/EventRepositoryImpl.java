@@ -0,0 +1,195 @@
+package me.hyungjun.springrestapi.events;
+
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    private static final int TRANSITION_CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public List<Event> findKeyset(EventKeyset keyset) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        boolean ascending = keyset.getQueryDirection().isAscending();
+
+        Path<Comparable> key = root.get(keyset.getProperty().getProperty());
+        Path<Integer> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (keyset.getSpecification() != null) {
+            Predicate predicate = keyset.getSpecification().toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        // Null keys sort last in the requested direction, so first when paging backward. The criteria API has no
+        // NULLS LAST, and databases disagree on the default, so the order leads with an explicit null rank.
+        boolean nullable = keyset.getProperty().isNullable();
+        boolean nullsLast = !keyset.isBackward();
+        EventCursor cursor = keyset.getCursor();
+        if (cursor != null) {
+            Comparable value = cursor.getValue();
+            Predicate afterId = ascending ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+            if (keyset.getProperty() == KeysetProperty.ID) {
+                predicates.add(afterId);
+            } else if (value == null) {
+                Predicate nullAfterId = cb.and(cb.isNull(key), afterId);
+                predicates.add(nullsLast ? nullAfterId : cb.or(cb.isNotNull(key), nullAfterId));
+            } else {
+                Predicate afterKey = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+                Predicate afterValue = cb.or(afterKey, cb.and(cb.equal(key, value), afterId));
+                predicates.add(nullable && nullsLast ? cb.or(afterValue, cb.isNull(key)) : afterValue);
+            }
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        List<Order> orders = new ArrayList<>(3);
+        if (nullable) {
+            Expression<Integer> nullRank = cb.<Integer>selectCase().when(cb.isNull(key), 1).otherwise(0);
+            orders.add(nullsLast ? cb.asc(nullRank) : cb.desc(nullRank));
+        }
+        orders.add(ascending ? cb.asc(key) : cb.desc(key));
+        orders.add(ascending ? cb.asc(id) : cb.desc(id));
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(keyset.getSize() + 1)
+                .getResultList();
+    }
+
+    @Override
+    public Slice<Event> findSlice(Specification<Event> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Event> events = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = events.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? events.subList(0, pageable.getPageSize()) : events, pageable, hasNext);
+    }
+
+    @Override
+    public Slice<EventView> findViewSlice(Specification<Event> specification, Pageable pageable, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        query.multiselect(selections(root, fields));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = tuples.size() > pageable.getPageSize();
+        List<EventView> views = (hasNext ? tuples.subList(0, pageable.getPageSize()) : tuples).stream()
+                .map(tuple -> EventView.of(tuple, fields))
+                .collect(Collectors.toList());
+        return new SliceImpl<>(views, pageable, hasNext);
+    }
+
+    @Override
+    public Optional<EventView> findViewById(Integer id, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        query.multiselect(selections(root, fields));
+        query.where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> EventView.of(tuple, fields));
+    }
+
+    private List<Selection<?>> selections(Root<Event> root, List<String> fields) {
+        Set<String> selected = new LinkedHashSet<>(fields);
+        selected.add("id");
+        selected.add("version");
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : selected) {
+            selections.add(root.get(field).alias(field));
+        }
+        return selections;
+    }
+
+    @Override
+    public Stream<Event> streamAll(Specification<Event> specification, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public int applyTransition(EventTransition transition, List<Integer> ids) {
+        int moved = 0;
+        for (int from = 0; from < ids.size(); from += TRANSITION_CHUNK_SIZE) {
+            moved += entityManager.createQuery("update Event e set e.eventStatus = :to, e.version = e.version + 1 " +
+                            "where e.id in :ids and e.eventStatus in :from")
+                    .setParameter("to", transition.getTo())
+                    .setParameter("ids", ids.subList(from, Math.min(from + TRANSITION_CHUNK_SIZE, ids.size())))
+                    .setParameter("from", transition.getFrom())
+                    .executeUpdate();
+        }
+        return moved;
+    }
+
+    @Override
+    public Optional<LocalDateTime> findNextDue(EventTransition transition) {
+        LocalDateTime next = entityManager.createQuery("select min(e." + transition.getProperty() + ") from Event e " +
+                        "where e.eventStatus in :from", LocalDateTime.class)
+                .setParameter("from", transition.getFrom())
+                .getSingleResult();
+        return Optional.ofNullable(next);
+    }
+}
@@ -0,0 +1,63 @@
+package me.hyungjun.springrestapi.events;
+
+import java.time.LocalDateTime;
+
+import static me.hyungjun.springrestapi.events.EventField.*;
+
+/**
+ * A single business rule of {@link EventValidator}. Every pair of timestamps is compared exactly once, and a rule
+ * whose operands are missing passes, leaving {@code @NotNull} to bean validation.
+ */
+public enum EventRule {
+
+    PRICE_RANGE(mask(BASE_PRICE, MAX_PRICE), mask(BASE_PRICE, MAX_PRICE)) {
+        @Override
+        int violations(EventDto eventDto) {
+            int maxPrice = eventDto.getMaxPrice();
+            return eventDto.getBasePrice() > maxPrice && maxPrice != 0 ? rejects : 0;
+        }
+    },
+    ENROLLMENT_PERIOD(BEGIN_ENROLLMENT_DATE_TIME, CLOSE_ENROLLMENT_DATE_TIME,
+            CLOSE_ENROLLMENT_DATE_TIME),
+    ENROLLMENT_CLOSES_BEFORE_EVENT(CLOSE_ENROLLMENT_DATE_TIME, BEGIN_EVENT_DATE_TIME,
+            BEGIN_EVENT_DATE_TIME, CLOSE_ENROLLMENT_DATE_TIME),
+    EVENT_PERIOD(BEGIN_EVENT_DATE_TIME, END_EVENT_DATE_TIME,
+            END_EVENT_DATE_TIME, BEGIN_EVENT_DATE_TIME),
+    ENROLLMENT_BEGINS_BEFORE_EVENT(BEGIN_ENROLLMENT_DATE_TIME, BEGIN_EVENT_DATE_TIME,
+            BEGIN_EVENT_DATE_TIME),
+    ENROLLMENT_BEGINS_BEFORE_EVENT_ENDS(BEGIN_ENROLLMENT_DATE_TIME, END_EVENT_DATE_TIME,
+            END_EVENT_DATE_TIME),
+    ENROLLMENT_CLOSES_BEFORE_EVENT_ENDS(CLOSE_ENROLLMENT_DATE_TIME, END_EVENT_DATE_TIME,
+            END_EVENT_DATE_TIME, CLOSE_ENROLLMENT_DATE_TIME);
+
+    final int dependsOn;
+    final int rejects;
+    private final EventField earlier;
+    private final EventField later;
+
+    EventRule(int dependsOn, int rejects) {
+        this.dependsOn = dependsOn;
+        this.rejects = rejects;
+        this.earlier = null;
+        this.later = null;
+    }
+
+    EventRule(EventField earlier, EventField later, EventField... rejects) {
+        this.dependsOn = mask(earlier, later);
+        this.rejects = mask(rejects);
+        this.earlier = earlier;
+        this.later = later;
+    }
+
+    /**
+     * Returns the mask of {@link EventField}s this rule rejects for the given event, or {@code 0} when it holds.
+     */
+    int violations(EventDto eventDto) {
+        LocalDateTime earlierDateTime = earlier.dateTime.apply(eventDto);
+        LocalDateTime laterDateTime = later.dateTime.apply(eventDto);
+        if (earlierDateTime == null || laterDateTime == null) {
+            return 0;
+        }
+        return laterDateTime.isBefore(earlierDateTime) ? rejects : 0;
+    }
+}
@@ -0,0 +1,35 @@
+package me.hyungjun.springrestapi.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Builder @NoArgsConstructor @AllArgsConstructor
+@Data
+public class EventSearch {
+
+    private EventStatus eventStatus;
+    private Boolean free;
+    private Boolean offline;
+    private String location;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime beginEventFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime beginEventTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime beginEnrollmentFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime beginEnrollmentTo;
+
+    public boolean hasCriteria() {
+        return eventStatus != null || free != null || offline != null
+                || (location != null && !location.isBlank())
+                || beginEventFrom != null || beginEventTo != null
+                || beginEnrollmentFrom != null || beginEnrollmentTo != null;
+    }
+
+}
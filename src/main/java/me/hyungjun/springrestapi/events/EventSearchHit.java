@@ -0,0 +1,49 @@
+package me.hyungjun.springrestapi.events;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.search.FieldDoc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * One ranked search result. The last hit of a page doubles as the keyset cursor for the next one, since
+ * (score desc, id asc) is a total order.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class EventSearchHit {
+
+    private static final String SEPARATOR = ":";
+
+    private final float score;
+    private final Integer id;
+
+    public String encode() {
+        String raw = Integer.toHexString(Float.floatToIntBits(score)) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<EventSearchHit> decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 2) {
+                return Optional.empty();
+            }
+            float score = Float.intBitsToFloat(Integer.parseUnsignedInt(parts[0], 16));
+            return Optional.of(new EventSearchHit(score, Integer.valueOf(parts[1])));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    FieldDoc toFieldDoc(int lastDoc) {
+        // Every hit with the same score and id is this one, so the doc id tie-break must exclude it. Lucene rejects
+        // doc ids past the reader, so use the last one it has.
+        return new FieldDoc(lastDoc, score, new Object[]{score, id});
+    }
+}
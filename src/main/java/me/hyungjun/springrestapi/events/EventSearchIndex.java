@@ -0,0 +1,292 @@
+package me.hyungjun.springrestapi.events;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process full-text index over event name, description and location. Writes made inside a transaction are
+ * buffered and applied once after commit, so rolled-back changes never become searchable.
+ * <p>
+ * Only writes served by this node's MVC controllers are indexed as they happen. Writes from other nodes, and all
+ * writes through the reactive profile, which runs no index, show up after the next rebuild: on startup or through
+ * the {@code searchindex} actuator endpoint.
+ * <p>
+ * A rebuild fills a new index while searches keep using the current one, then swaps it in. Writes that land during
+ * the rebuild are newer than the rows it may have read, so they are replayed onto the new index before the swap.
+ */
+@Component
+@Profile("!reactive")
+public class EventSearchIndex {
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "idSort";
+    private static final String[] FIELDS = {"name", "description", "location"};
+    private static final Map<String, Float> BOOSTS = Map.of("name", 3f, "location", 2f, "description", 1f);
+    private static final Sort SORT = new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.INT));
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final ReadWriteLock generationLock = new ReentrantReadWriteLock();
+    private volatile Generation generation;
+    private volatile Queue<Document> rebuildWrites;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EventSearchIndex(EventRepository eventRepository, PlatformTransactionManager transactionManager,
+                            @Value("${events.search.fetch-size:500}") int fetchSize) throws IOException {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.generation = new Generation(analyzer);
+    }
+
+    public void index(Event event) {
+        Document document = toDocument(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(document));
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingDocuments) {
+                ((PendingDocuments) synchronization).documents.add(document);
+                return;
+            }
+        }
+        PendingDocuments pending = new PendingDocuments();
+        pending.documents.add(document);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    public List<EventSearchHit> search(String text, int size, EventSearchHit after) throws IOException {
+        Query query;
+        try {
+            query = new MultiFieldQueryParser(FIELDS, analyzer, BOOSTS).parse(QueryParser.escape(text));
+        } catch (ParseException e) {
+            return List.of();
+        }
+        generationLock.readLock().lock();
+        try {
+            return search(generation.searcherManager, query, size, after);
+        } finally {
+            generationLock.readLock().unlock();
+        }
+    }
+
+    private static List<EventSearchHit> search(SearcherManager searcherManager, Query query, int size,
+                                               EventSearchHit after) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int lastDoc = searcher.getIndexReader().maxDoc() - 1;
+            TopFieldDocs topDocs = after == null
+                    ? searcher.search(query, size, SORT, true)
+                    : searcher.searchAfter(after.toFieldDoc(lastDoc), query, size, SORT, true);
+            List<EventSearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Object[] fields = ((FieldDoc) scoreDoc).fields;
+                hits.add(new EventSearchHit((Float) fields[0], (Integer) fields[1]));
+            }
+            return hits;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized int rebuild() {
+        Generation next;
+        try {
+            next = new Generation(analyzer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rebuildWrites = new ConcurrentLinkedQueue<>();
+        Generation previous;
+        Integer indexed;
+        try {
+            indexed = transactionTemplate.execute(status -> {
+                try (Stream<Event> events = eventRepository.streamAll((root, query, cb) -> null, fetchSize)) {
+                    int count = 0;
+                    Iterator<Event> iterator = events.iterator();
+                    while (iterator.hasNext()) {
+                        Document document = toDocument(iterator.next());
+                        next.indexWriter.updateDocument(new Term(ID, document.get(ID)), document);
+                        if (++count % fetchSize == 0) {
+                            entityManager.clear();
+                        }
+                    }
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generationLock.writeLock().lock();
+            try {
+                next.write(rebuildWrites);
+                previous = generation;
+                generation = next;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                rebuildWrites = null;
+                generationLock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            rebuildWrites = null;
+            closeQuietly(next, e);
+            throw e;
+        }
+        try {
+            // Searches hold the read lock for as long as they use a generation, so nothing still reads this one
+            previous.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return indexed == null ? 0 : indexed;
+    }
+
+    public int size() {
+        generationLock.readLock().lock();
+        try {
+            return generation.indexWriter.getDocStats().numDocs;
+        } finally {
+            generationLock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        generation.close();
+    }
+
+    private void write(List<Document> documents) {
+        generationLock.readLock().lock();
+        try {
+            generation.write(documents);
+            Queue<Document> pending = rebuildWrites;
+            if (pending != null) {
+                pending.addAll(documents);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            generationLock.readLock().unlock();
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable, Exception cause) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static Document toDocument(Event event) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(event.getId()), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID_SORT, event.getId()));
+        addText(document, "name", event.getName());
+        addText(document, "description", event.getDescription());
+        addText(document, "location", event.getLocation());
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    /**
+     * One complete index; a rebuild writes a new one rather than clearing the one searches are using.
+     */
+    private static class Generation implements Closeable {
+
+        private final Directory directory = new ByteBuffersDirectory();
+        private final IndexWriter indexWriter;
+        private final SearcherManager searcherManager;
+
+        private Generation(Analyzer analyzer) throws IOException {
+            this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(indexWriter, null);
+        }
+
+        private void write(Iterable<Document> documents) throws IOException {
+            for (Document document : documents) {
+                indexWriter.updateDocument(new Term(ID, document.get(ID)), document);
+            }
+            searcherManager.maybeRefresh();
+        }
+
+        @Override
+        public void close() throws IOException {
+            searcherManager.close();
+            indexWriter.close();
+            directory.close();
+        }
+    }
+
+    private class PendingDocuments implements TransactionSynchronization {
+
+        private final List<Document> documents = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            write(documents);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package me.hyungjun.springrestapi.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Profile("!reactive")
+@Endpoint(id = "searchindex")
+@RequiredArgsConstructor
+public class EventSearchIndexEndpoint {
+
+    private final EventSearchIndex eventSearchIndex;
+
+    @ReadOperation
+    public Map<String, Object> searchIndex() {
+        return Map.of("documents", eventSearchIndex.size());
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        return Map.of("indexed", eventSearchIndex.rebuild());
+    }
+}
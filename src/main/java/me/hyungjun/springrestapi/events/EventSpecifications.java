@@ -0,0 +1,50 @@
+package me.hyungjun.springrestapi.events;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class EventSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> of(EventSearch search) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (search.getEventStatus() != null) {
+                predicates.add(cb.equal(root.get("eventStatus"), search.getEventStatus()));
+            }
+            if (search.getFree() != null) {
+                predicates.add(cb.equal(root.get("free"), search.getFree()));
+            }
+            if (search.getOffline() != null) {
+                predicates.add(cb.equal(root.get("offline"), search.getOffline()));
+            }
+            if (search.getLocation() != null && !search.getLocation().isBlank()) {
+                predicates.add(cb.like(root.get("location"), escapeLike(search.getLocation()) + "%", LIKE_ESCAPE));
+            }
+            if (search.getBeginEventFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("beginEventDateTime"), search.getBeginEventFrom()));
+            }
+            if (search.getBeginEventTo() != null) {
+                predicates.add(cb.lessThan(root.get("beginEventDateTime"), search.getBeginEventTo()));
+            }
+            if (search.getBeginEnrollmentFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("beginEnrollmentDateTime"), search.getBeginEnrollmentFrom()));
+            }
+            if (search.getBeginEnrollmentTo() != null) {
+                predicates.add(cb.lessThan(root.get("beginEnrollmentDateTime"), search.getBeginEnrollmentTo()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,43 @@
+package me.hyungjun.springrestapi.events;
+
+import lombok.Builder;
+
+import java.util.Set;
+
+/**
+ * Which changes a stream subscriber wants. Empty sets match everything; a change without field names (a create or a
+ * full replacement) matches any field filter.
+ */
+@Builder
+public class EventStreamFilter {
+
+    private final Integer eventId;
+    @Builder.Default
+    private final Set<EventChangeType> types = Set.of();
+    @Builder.Default
+    private final Set<String> fields = Set.of();
+    @Builder.Default
+    private final Set<EventStatus> statuses = Set.of();
+
+    public boolean test(EventChange change, Event event) {
+        if (eventId != null && !eventId.equals(change.getEventId())) {
+            return false;
+        }
+        if (!types.isEmpty() && !types.contains(change.getType())) {
+            return false;
+        }
+        if (!statuses.isEmpty() && (event == null || !statuses.contains(event.getEventStatus()))) {
+            return false;
+        }
+        return fields.isEmpty() || change.getFields() == null || matchesAnyField(change.getFields());
+    }
+
+    private boolean matchesAnyField(String changedFields) {
+        for (String field : changedFields.split(",")) {
+            if (fields.contains(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
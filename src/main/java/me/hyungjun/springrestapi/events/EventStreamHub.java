@@ -0,0 +1,341 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans relayed {@link EventChange}s out to Server-Sent Events subscribers. An idle subscriber is only an async request
+ * and a small queue; a shared pool drains queues that have something to send, one task per subscriber at most. Each
+ * change is serialized once for all subscribers. A subscriber whose queue fills up is disconnected rather than
+ * buffered for, and picks up where it left off by reconnecting with {@code Last-Event-ID}.
+ * <p>
+ * Sends are blocking servlet writes, so a client that stops reading holds a dispatcher thread until the container's
+ * write timeout. A send that outlives {@code events.stream.send-timeout} evicts its subscriber, and the pool grows by
+ * one thread until that send returns, so stalled clients can't starve the healthy ones. Evictions never complete the
+ * emitter from the evicting thread; the subscriber's own drain does, so the feed thread never waits on a socket.
+ */
+@Component
+@Profile("!reactive")
+public class EventStreamHub {
+
+    private static final Message HEARTBEAT = new Message(0, null, null);
+    private static final int IDLE = 0;
+    private static final int SENDING = 1;
+    private static final int STALLED = 2;
+    private static final int ABANDONED = 3;
+
+    private final EventCache eventCache;
+    private final EventChangeRepository eventChangeRepository;
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final long timeout;
+    private final long sendTimeoutNanos;
+    private final int maxStalledSends;
+    private final ThreadPoolExecutor dispatcher;
+    private final AtomicInteger stalledSends = new AtomicInteger();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter overflowEvictions;
+    private final Counter stalledEvictions;
+    private int dispatcherSize;
+
+    public EventStreamHub(EventChangeFeed eventChangeFeed, EventCache eventCache,
+                          EventChangeRepository eventChangeRepository, ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${events.stream.queue-capacity:256}") int queueCapacity,
+                          @Value("${events.stream.timeout:1800000}") long timeout,
+                          @Value("${events.stream.send-timeout:5000}") long sendTimeout,
+                          @Value("${events.stream.max-stalled-sends:64}") int maxStalledSends,
+                          @Value("${events.stream.dispatch-threads:0}") int dispatchThreads) {
+        this.eventCache = eventCache;
+        this.eventChangeRepository = eventChangeRepository;
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeout);
+        this.maxStalledSends = maxStalledSends;
+        this.dispatcherSize = dispatchThreads > 0 ? dispatchThreads : Runtime.getRuntime().availableProcessors();
+        this.dispatcher = new ThreadPoolExecutor(dispatcherSize, dispatcherSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("event-stream-"));
+        this.overflowEvictions = Counter.builder("events.stream.evictions").tag("reason", "overflow")
+                .register(meterRegistry);
+        this.stalledEvictions = Counter.builder("events.stream.evictions").tag("reason", "stalled")
+                .register(meterRegistry);
+        meterRegistry.gaugeCollectionSize("events.stream.subscribers", List.of(), subscribers);
+        eventChangeFeed.subscribe(this::publish);
+    }
+
+    /**
+     * Opens a stream for {@code filter}. The optional {@code snapshot} is sent first; with {@code lastEventId} the
+     * changes after that position are replayed from the outbox before live ones. A replay that fills the queue
+     * capacity ends the stream so the client resumes from where the replay stopped.
+     */
+    public SseEmitter subscribe(EventStreamFilter filter, Long lastEventId, Event snapshot) throws IOException {
+        SseEmitter emitter = new SseEmitter(timeout);
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::detach);
+        emitter.onError(e -> subscriber.detach());
+
+        if (snapshot != null) {
+            emitter.send(SseEmitter.event().name("snapshot").data(toJson(snapshot), MediaType.APPLICATION_JSON));
+        }
+        if (lastEventId != null && !replay(subscriber, lastEventId)) {
+            subscribers.remove(subscriber);
+            emitter.complete();
+            return emitter;
+        }
+        subscriber.ready = true;
+        subscriber.schedule();
+        return emitter;
+    }
+
+    public int size() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${events.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    /**
+     * Evicts subscribers whose current send has passed the deadline and backs each stuck dispatcher thread with a
+     * new one, up to {@code events.stream.max-stalled-sends}.
+     */
+    @Scheduled(fixedDelayString = "${events.stream.send-timeout:5000}")
+    public void checkSendDeadlines() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sendState.get() != SENDING || now - subscriber.sendStartedAt <= sendTimeoutNanos) {
+                continue;
+            }
+            boolean compensate = stalledSends.incrementAndGet() <= maxStalledSends;
+            if (compensate) {
+                resizeDispatcher(1);
+            } else {
+                stalledSends.decrementAndGet();
+            }
+            if (subscriber.sendState.compareAndSet(SENDING, compensate ? STALLED : ABANDONED)) {
+                evict(subscriber, stalledEvictions);
+            } else if (compensate) {
+                resizeDispatcher(-1);
+                stalledSends.decrementAndGet();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    void publish(List<EventChange> changes) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (EventChange change : changes) {
+            Event event = eventCache.findById(change.getEventId()).orElse(null);
+            Message message = null;
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.filter.test(change, event)) {
+                    if (message == null) {
+                        message = toMessage(change, event);
+                    }
+                    subscriber.offer(message);
+                }
+            }
+        }
+    }
+
+    private boolean replay(Subscriber subscriber, long lastEventId) throws IOException {
+        List<EventChange> changes = eventChangeRepository.findByPositionGreaterThanOrderByPosition(lastEventId,
+                PageRequest.of(0, queueCapacity));
+        for (EventChange change : changes) {
+            Event event = eventCache.findById(change.getEventId()).orElse(null);
+            if (subscriber.filter.test(change, event)) {
+                toMessage(change, event).send(subscriber.emitter);
+            }
+            subscriber.lastSent = change.getPosition();
+        }
+        return changes.size() < queueCapacity;
+    }
+
+    private Message toMessage(EventChange change, Event event) {
+        return new Message(change.getPosition(), change.getType().name(), toJson(new Payload(change, event)));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void evict(Subscriber subscriber, Counter evictions) {
+        if (subscribers.remove(subscriber)) {
+            evictions.increment();
+            subscriber.closed = true;
+            subscriber.schedule();
+        }
+    }
+
+    private synchronized void resizeDispatcher(int delta) {
+        dispatcherSize += delta;
+        if (delta > 0) {
+            dispatcher.setMaximumPoolSize(dispatcherSize);
+            dispatcher.setCorePoolSize(dispatcherSize);
+        } else {
+            dispatcher.setCorePoolSize(dispatcherSize);
+            dispatcher.setMaximumPoolSize(dispatcherSize);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class Payload {
+
+        @JsonUnwrapped
+        private final EventChange change;
+        private final Event event;
+    }
+
+    @RequiredArgsConstructor
+    private static class Message {
+
+        private final long position;
+        private final String name;
+        private final String data;
+
+        void send(SseEmitter emitter) throws IOException {
+            if (this == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(position))
+                    .name(name)
+                    .data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final EventStreamFilter filter;
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger sendState = new AtomicInteger(IDLE);
+        private volatile boolean ready;
+        private volatile boolean closed;
+        private volatile boolean completed;
+        private volatile long sendStartedAt;
+        private long lastSent;
+
+        private Subscriber(SseEmitter emitter, EventStreamFilter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        void offer(Message message) {
+            if (!queue.offer(message)) {
+                evict(this, overflowEvictions);
+                return;
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (ready && !completed && (closed || !queue.isEmpty()) && draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        void detach() {
+            subscribers.remove(this);
+            closed = true;
+            completed = true;
+        }
+
+        private void drain() {
+            try {
+                List<Message> batch = new ArrayList<>();
+                while (!closed && queue.drainTo(batch) > 0) {
+                    for (Message message : batch) {
+                        if (closed) {
+                            break;
+                        }
+                        if (message != HEARTBEAT && message.position <= lastSent) {
+                            continue;
+                        }
+                        send(message);
+                        if (message != HEARTBEAT) {
+                            lastSent = message.position;
+                        }
+                    }
+                    batch.clear();
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                closed = true;
+                completed = true;
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            schedule();
+        }
+
+        private void send(Message message) throws IOException {
+            sendStartedAt = System.nanoTime();
+            sendState.set(SENDING);
+            try {
+                message.send(emitter);
+            } finally {
+                if (sendState.getAndSet(IDLE) == STALLED) {
+                    resizeDispatcher(-1);
+                    stalledSends.decrementAndGet();
+                }
+            }
+        }
+    }
+}
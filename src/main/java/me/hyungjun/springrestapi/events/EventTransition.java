@@ -0,0 +1,50 @@
+package me.hyungjun.springrestapi.events;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+public enum EventTransition {
+
+    BEGIN_ENROLLMENT(EnumSet.of(EventStatus.DRAFT, EventStatus.PUBLISHED), EventStatus.BEGIN_ENROLLMENT,
+            "beginEnrollmentDateTime", Event::getBeginEnrollmentDateTime),
+    CLOSE_ENROLLMENT(EnumSet.of(EventStatus.BEGIN_ENROLLMENT), EventStatus.CLOSED_ENROLLMENT,
+            "closeEnrollmentDateTime", Event::getCloseEnrollmentDateTime),
+    START(EnumSet.of(EventStatus.CLOSED_ENROLLMENT), EventStatus.STARTED,
+            "beginEventDateTime", Event::getBeginEventDateTime),
+    END(EnumSet.of(EventStatus.STARTED), EventStatus.ENDED,
+            "endEventDateTime", Event::getEndEventDateTime);
+
+    private final Set<EventStatus> from;
+    private final EventStatus to;
+    private final String property;
+    private final Function<Event, LocalDateTime> dueAt;
+
+    EventTransition(Set<EventStatus> from, EventStatus to, String property, Function<Event, LocalDateTime> dueAt) {
+        this.from = from;
+        this.to = to;
+        this.property = property;
+        this.dueAt = dueAt;
+    }
+
+    public Set<EventStatus> getFrom() {
+        return from;
+    }
+
+    public EventStatus getTo() {
+        return to;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public LocalDateTime dueAt(Event event) {
+        return dueAt.apply(event);
+    }
+
+    public boolean isPending(EventStatus status) {
+        return status != null && status.ordinal() < to.ordinal();
+    }
+}
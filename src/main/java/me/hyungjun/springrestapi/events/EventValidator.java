@@ -1,36 +1,72 @@
 package me.hyungjun.springrestapi.events;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
+/**
+ * Runs the {@link EventRule}s in the configured order. Rules report violations as a field mask, so nothing is
+ * allocated and {@link Errors} is left untouched unless a rule fails. The validator is stateless and can be shared
+ * across threads and batch items.
+ */
 @Component
 public class EventValidator {
 
+    public enum Mode {
+        FAIL_FAST, COLLECT_ALL
+    }
+
+    private final EventRule[] rules;
+    private final Mode mode;
+
+    public EventValidator(@Value("${events.validation.mode:COLLECT_ALL}") Mode mode,
+                          @Value("${events.validation.order:}") List<EventRule> order) {
+        Set<EventRule> rules = new LinkedHashSet<>(order);
+        rules.addAll(EnumSet.allOf(EventRule.class));
+        this.rules = rules.toArray(new EventRule[0]);
+        this.mode = mode;
+    }
+
     public void validate(EventDto eventDto, Errors errors) {
-        if (eventDto.getBasePrice() > eventDto.getMaxPrice() && eventDto.getMaxPrice() != 0) {
-            errors.rejectValue("basePrice", "wrongValue", "BasePrice is wrong");
-            errors.rejectValue("maxPrice", "wrongValue", "MaxPrice is wrong");
-        }
-        LocalDateTime endEventDateTime = eventDto.getEndEventDateTime();
-        if (endEventDateTime.isBefore(eventDto.getBeginEventDateTime()) ||
-        endEventDateTime.isBefore(eventDto.getCloseEnrollmentDateTime()) ||
-        endEventDateTime.isBefore(eventDto.getBeginEnrollmentDateTime())) {
-            errors.rejectValue("endEventDateTime", "wrongValue", "EndEventDateTime is wrong");
+        reject(violations(eventDto, EventField.ALL), errors);
+    }
+
+    public void validate(EventDto eventDto, Errors errors, Collection<String> changedFields) {
+        reject(violations(eventDto, EventField.mask(changedFields)), errors);
+    }
+
+    public boolean isValid(EventDto eventDto) {
+        return violations(eventDto, EventField.ALL) == 0;
+    }
+
+    private int violations(EventDto eventDto, int fields) {
+        int violations = 0;
+        for (EventRule rule : rules) {
+            if ((rule.dependsOn & fields) == 0) {
+                continue;
+            }
+            violations |= rule.violations(eventDto);
+            if (violations != 0 && mode == Mode.FAIL_FAST) {
+                break;
+            }
         }
+        return violations;
+    }
 
-        LocalDateTime beginEventDateTime = eventDto.getBeginEventDateTime();
-        if (beginEventDateTime.isBefore(eventDto.getBeginEnrollmentDateTime()) ||
-                beginEventDateTime.isBefore(eventDto.getCloseEnrollmentDateTime()) ||
-                beginEventDateTime.isAfter(eventDto.getEndEventDateTime())) {
-            errors.rejectValue("beginEventDateTime", "wrongValue", "BeginEventDateTime is wrong");
+    private static void reject(int violations, Errors errors) {
+        if (violations == 0) {
+            return;
         }
-        LocalDateTime closeEnrollmentDateTime = eventDto.getCloseEnrollmentDateTime();
-        if (closeEnrollmentDateTime.isBefore(eventDto.getBeginEnrollmentDateTime()) ||
-                closeEnrollmentDateTime.isAfter(eventDto.getBeginEventDateTime()) ||
-                closeEnrollmentDateTime.isAfter(eventDto.getEndEventDateTime())) {
-            errors.rejectValue("closeEnrollmentDateTime", "wrongValue", "CloseEnrollmentDateTime is wrong");
+        for (EventField field : EventField.VALUES) {
+            if ((violations & field.bit) != 0) {
+                errors.rejectValue(field.property, "wrongValue", field.message);
+            }
         }
     }
 }
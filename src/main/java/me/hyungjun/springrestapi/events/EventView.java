@@ -0,0 +1,37 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.server.core.Relation;
+
+import javax.persistence.Tuple;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Relation(collectionRelation = "eventList")
+public class EventView {
+
+    // Package-private, so Jackson only writes them when they were selected as fields
+    @Getter(AccessLevel.PACKAGE)
+    private final Integer id;
+    @Getter(AccessLevel.PACKAGE)
+    private final Long version;
+    private final Map<String, Object> properties;
+
+    static EventView of(Tuple tuple, List<String> fields) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (String field : fields) {
+            properties.put(field, tuple.get(field));
+        }
+        return new EventView(tuple.get("id", Integer.class), tuple.get("version", Long.class), properties);
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+}
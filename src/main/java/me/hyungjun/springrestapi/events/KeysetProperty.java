@@ -0,0 +1,53 @@
+package me.hyungjun.springrestapi.events;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+public enum KeysetProperty {
+
+    ID("id", false, Event::getId, Integer::valueOf),
+    NAME("name", true, Event::getName, value -> value),
+    BEGIN_ENROLLMENT_DATE_TIME("beginEnrollmentDateTime", true, Event::getBeginEnrollmentDateTime, LocalDateTime::parse),
+    CLOSE_ENROLLMENT_DATE_TIME("closeEnrollmentDateTime", true, Event::getCloseEnrollmentDateTime, LocalDateTime::parse),
+    BEGIN_EVENT_DATE_TIME("beginEventDateTime", true, Event::getBeginEventDateTime, LocalDateTime::parse),
+    END_EVENT_DATE_TIME("endEventDateTime", true, Event::getEndEventDateTime, LocalDateTime::parse),
+    BASE_PRICE("basePrice", false, Event::getBasePrice, Integer::valueOf),
+    MAX_PRICE("maxPrice", false, Event::getMaxPrice, Integer::valueOf);
+
+    private final String property;
+    private final boolean nullable;
+    private final Function<Event, Comparable<?>> extractor;
+    private final Function<String, Comparable<?>> parser;
+
+    KeysetProperty(String property, boolean nullable, Function<Event, Comparable<?>> extractor,
+                   Function<String, Comparable<?>> parser) {
+        this.property = property;
+        this.nullable = nullable;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public Comparable<?> valueOf(Event event) {
+        return extractor.apply(event);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    public static Optional<KeysetProperty> of(String property) {
+        return Arrays.stream(values())
+                .filter(p -> p.property.equals(property))
+                .findFirst();
+    }
+}
@@ -0,0 +1,200 @@
+package me.hyungjun.springrestapi.events;
+
+import me.hyungjun.springrestapi.common.ErrorsResource;
+import me.hyungjun.springrestapi.common.NearCacheInvalidator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Validator;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static me.hyungjun.springrestapi.events.EventController.PROFILE_CREATE;
+import static me.hyungjun.springrestapi.events.EventController.PROFILE_GET;
+import static me.hyungjun.springrestapi.events.EventController.PROFILE_LIST;
+import static me.hyungjun.springrestapi.events.EventController.PROFILE_UPDATE;
+
+@Controller
+@Profile("reactive")
+@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE+";charset=utf8")
+public class ReactiveEventController {
+
+    private final ReactiveEventRepository reactiveEventRepository;
+    private final EventMapper eventMapper;
+    private final EventValidator eventValidator;
+    private final SpringValidatorAdapter beanValidator;
+    private final NearCacheInvalidator nearCacheInvalidator;
+    private final ReactiveEventModelAssembler eventModelAssembler;
+
+    public ReactiveEventController(ReactiveEventRepository reactiveEventRepository, EventMapper eventMapper,
+                                   EventValidator eventValidator, Validator validator,
+                                   NearCacheInvalidator nearCacheInvalidator, ReactiveEventModelAssembler eventModelAssembler) {
+        this.reactiveEventRepository = reactiveEventRepository;
+        this.eventMapper = eventMapper;
+        this.eventValidator = eventValidator;
+        this.beanValidator = new SpringValidatorAdapter(validator);
+        this.nearCacheInvalidator = nearCacheInvalidator;
+        this.eventModelAssembler = eventModelAssembler;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity> createEvent(@RequestBody Mono<EventDto> body, ServerWebExchange exchange) {
+        return body.flatMap(eventDto -> {
+            Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+            beanValidator.validate(eventDto, errors);
+            if (errors.hasErrors()) {
+                return Mono.just(ResponseEntity.badRequest().build());
+            }
+            eventValidator.validate(eventDto, errors);
+            if (errors.hasErrors()) {
+                return badRequest(errors, exchange);
+            }
+            Event event = eventMapper.toEvent(eventDto);
+            event.update();
+            return reactiveEventRepository.insert(event)
+                    .zipWith(eventModelAssembler.eventsHref(exchange))
+                    .map(result -> {
+                        Event newEvent = result.getT1();
+                        String eventsHref = result.getT2();
+                        evict(newEvent.getId());
+                        EntityModel<Event> eventEntityModel = eventModelAssembler.toModel(newEvent, eventsHref,
+                                eventModelAssembler.queryEventsLink(eventsHref),
+                                eventModelAssembler.eventLink(eventsHref, newEvent.getId(), "update-event"),
+                                PROFILE_CREATE
+                        );
+                        URI createdUri = eventEntityModel.getRequiredLink(IanaLinkRelations.SELF).toUri();
+                        return ResponseEntity.created(createdUri).eTag(EventETags.of(newEvent.getVersion())).body(eventEntityModel);
+                    });
+        });
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity> queryEvents(EventSearch search, Pageable pageable, ServerWebExchange exchange) {
+        return reactiveEventRepository.findAll(search, pageable)
+                .zipWith(eventModelAssembler.eventsHref(exchange))
+                .map(result -> {
+                    Page<Event> page = result.getT1();
+                    String eventsHref = result.getT2();
+                    List<EntityModel<Event>> content = page.map(event -> eventModelAssembler.toModel(event, eventsHref)).getContent();
+                    PagedModel<EntityModel<Event>> pagedModel = PagedModel.of(content, new PagedModel.PageMetadata(
+                            page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages()));
+                    pagedModel.add(pageLinks(page, exchange));
+                    pagedModel.add(PROFILE_LIST);
+                    return ResponseEntity.ok()
+                            .eTag(EventETags.of(page.getContent(), page.getTotalElements(), page.hasNext(), page.hasPrevious()))
+                            .body(pagedModel);
+                });
+    }
+
+    private List<Link> pageLinks(Page<Event> page, ServerWebExchange exchange) {
+        List<Link> links = new ArrayList<>();
+        boolean navigable = page.hasPrevious() || page.hasNext();
+        if (navigable) {
+            links.add(pageLink(exchange, 0, page.getSize(), IanaLinkRelations.FIRST));
+        }
+        if (page.hasPrevious()) {
+            links.add(pageLink(exchange, page.getNumber() - 1, page.getSize(), IanaLinkRelations.PREV));
+        }
+        links.add(Link.of(exchange.getRequest().getURI().toString()));
+        if (page.hasNext()) {
+            links.add(pageLink(exchange, page.getNumber() + 1, page.getSize(), IanaLinkRelations.NEXT));
+        }
+        if (navigable) {
+            links.add(pageLink(exchange, Math.max(page.getTotalPages() - 1, 0), page.getSize(), IanaLinkRelations.LAST));
+        }
+        return links;
+    }
+
+    private Link pageLink(ServerWebExchange exchange, int page, int size, LinkRelation rel) {
+        return Link.of(UriComponentsBuilder.fromHttpRequest(exchange.getRequest())
+                .replaceQueryParam("page", page)
+                .replaceQueryParam("size", size)
+                .toUriString(), rel);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity> getEvent(@PathVariable Integer id,
+                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                         ServerWebExchange exchange) {
+        return reactiveEventRepository.findById(id)
+                .zipWith(eventModelAssembler.eventsHref(exchange))
+                .<ResponseEntity>map(result -> {
+                    Event event = result.getT1();
+                    if (ifNoneMatch != null && EventETags.matchesWeak(ifNoneMatch, event.getVersion())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(EventETags.of(event.getVersion())).build();
+                    }
+                    EntityModel<Event> eventEntityModel = eventModelAssembler.toModel(event, result.getT2(), PROFILE_GET);
+                    return ResponseEntity.ok().eTag(EventETags.of(event.getVersion())).body(eventEntityModel);
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity> updateEvent(@PathVariable Integer id, @RequestBody Mono<EventDto> body,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                            ServerWebExchange exchange) {
+        return body.flatMap(eventDto -> reactiveEventRepository.findById(id)
+                        .flatMap(event -> updateEvent(event, eventDto, ifMatch, exchange))
+                        .defaultIfEmpty(ResponseEntity.notFound().build()))
+                .onErrorReturn(OptimisticLockingFailureException.class, ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    private Mono<ResponseEntity> updateEvent(Event existingEvent, EventDto eventDto, String ifMatch, ServerWebExchange exchange) {
+        if (ifMatch != null && !EventETags.matchesStrong(ifMatch, existingEvent.getVersion())) {
+            return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build());
+        }
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        beanValidator.validate(eventDto, errors);
+        if (errors.hasErrors()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        eventValidator.validate(eventDto, errors);
+        if (errors.hasErrors()) {
+            return badRequest(errors, exchange);
+        }
+        eventMapper.updateEvent(eventDto, existingEvent);
+        return reactiveEventRepository.update(existingEvent)
+                .zipWith(eventModelAssembler.eventsHref(exchange))
+                .map(result -> {
+                    Event savedEvent = result.getT1();
+                    evict(savedEvent.getId());
+                    EntityModel<Event> eventEntityModel = eventModelAssembler.toModel(savedEvent, result.getT2(), PROFILE_UPDATE);
+                    return ResponseEntity.ok().eTag(EventETags.of(savedEvent.getVersion())).body(eventEntityModel);
+                });
+    }
+
+    /**
+     * Nothing is cached on this node; the broadcast drops the MVC nodes' copies, the same as an MVC write would.
+     * Their lifecycle schedulers pick reactive writes up on the next reseed, and the search index and the outbox
+     * don't see them.
+     */
+    private void evict(Integer id) {
+        nearCacheInvalidator.evict(EventCache.CACHE_NAME, id);
+        nearCacheInvalidator.clear(EventCache.PAGE_CACHE_NAME);
+    }
+
+    private Mono<ResponseEntity> badRequest(Errors errors, ServerWebExchange exchange) {
+        return eventModelAssembler.indexLink(exchange)
+                .map(indexLink -> ResponseEntity.badRequest().body(new ErrorsResource(errors, indexLink, List.of())));
+    }
+}
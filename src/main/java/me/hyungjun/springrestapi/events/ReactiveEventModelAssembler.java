@@ -0,0 +1,48 @@
+package me.hyungjun.springrestapi.events;
+
+import me.hyungjun.springrestapi.index.ReactiveIndexController;
+import org.springframework.context.annotation.Profile;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.reactive.ReactiveRepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
+
+@Component
+@Profile("reactive")
+public class ReactiveEventModelAssembler implements ReactiveRepresentationModelAssembler<Event, EntityModel<Event>> {
+
+    @Override
+    public Mono<EntityModel<Event>> toModel(Event event, ServerWebExchange exchange) {
+        return eventsHref(exchange).map(eventsHref -> toModel(event, eventsHref));
+    }
+
+    public EntityModel<Event> toModel(Event event, String eventsHref, Link... links) {
+        return EntityModel.of(event, Link.of(eventsHref + "/" + event.getId())).add(links);
+    }
+
+    public Link eventLink(String eventsHref, Integer id, String rel) {
+        return Link.of(eventsHref + "/" + id, rel);
+    }
+
+    public Link queryEventsLink(String eventsHref) {
+        return Link.of(eventsHref, "query-events");
+    }
+
+    public Mono<String> eventsHref(ServerWebExchange exchange) {
+        return linkTo(methodOn(ReactiveEventController.class).queryEvents(null, null, null), exchange)
+                .withSelfRel()
+                .toMono()
+                .map(Link::getHref);
+    }
+
+    public Mono<Link> indexLink(ServerWebExchange exchange) {
+        return linkTo(methodOn(ReactiveIndexController.class).index(null), exchange)
+                .withRel("index")
+                .toMono();
+    }
+}
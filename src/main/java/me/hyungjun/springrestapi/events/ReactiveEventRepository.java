@@ -0,0 +1,116 @@
+package me.hyungjun.springrestapi.events;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+/**
+ * R2DBC access to the {@code event} table. The entity's {@code version} is mapped for JPA only, so updates check and
+ * bump it explicitly rather than through Spring Data's optimistic locking.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveEventRepository {
+
+    private final R2dbcEntityTemplate template;
+    private final String nextIdQuery;
+
+    public ReactiveEventRepository(R2dbcEntityTemplate template) {
+        this.template = template;
+        // Ids come from the same sequence Hibernate allocates from, one value at a time. H2Dialect extends
+        // PostgresDialect, so compare the class rather than using instanceof.
+        this.nextIdQuery = DialectResolver.getDialect(template.getDatabaseClient().getConnectionFactory()).getClass() == PostgresDialect.class
+                ? "SELECT nextval('event_seq')"
+                : "SELECT NEXT VALUE FOR event_seq";
+    }
+
+    public Mono<Event> findById(Integer id) {
+        return template.selectOne(query(where("id").is(id)), Event.class);
+    }
+
+    public Mono<Page<Event>> findAll(EventSearch search, Pageable pageable) {
+        Criteria criteria = criteria(search);
+        return template.select(query(criteria).with(pageable), Event.class)
+                .collectList()
+                .zipWith(template.count(query(criteria), Event.class))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    public Mono<Event> insert(Event event) {
+        return template.getDatabaseClient().sql(nextIdQuery)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> {
+                    event.setId(id.intValue());
+                    // The entity's version is JPA-mapped only; start it where Hibernate would
+                    event.setVersion(0L);
+                    return template.insert(event);
+                });
+    }
+
+    public Mono<Event> update(Event event) {
+        Update update = Update.update("name", event.getName())
+                .set("description", event.getDescription())
+                .set("beginEnrollmentDateTime", event.getBeginEnrollmentDateTime())
+                .set("closeEnrollmentDateTime", event.getCloseEnrollmentDateTime())
+                .set("beginEventDateTime", event.getBeginEventDateTime())
+                .set("endEventDateTime", event.getEndEventDateTime())
+                .set("location", event.getLocation())
+                .set("basePrice", event.getBasePrice())
+                .set("maxPrice", event.getMaxPrice())
+                .set("limitOfEnrollment", event.getLimitOfEnrollment())
+                .set("offline", event.isOffline())
+                .set("free", event.isFree())
+                .set("eventStatus", event.getEventStatus())
+                .set("version", event.getVersion() + 1);
+        return template.update(query(where("id").is(event.getId()).and("version").is(event.getVersion())), update, Event.class)
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        return Mono.error(new OptimisticLockingFailureException("Event " + event.getId() + " was updated concurrently"));
+                    }
+                    event.setVersion(event.getVersion() + 1);
+                    return Mono.just(event);
+                });
+    }
+
+    private Criteria criteria(EventSearch search) {
+        Criteria criteria = Criteria.empty();
+        if (search.getEventStatus() != null) {
+            criteria = criteria.and("eventStatus").is(search.getEventStatus());
+        }
+        if (search.getFree() != null) {
+            criteria = criteria.and("free").is(search.getFree());
+        }
+        if (search.getOffline() != null) {
+            criteria = criteria.and("offline").is(search.getOffline());
+        }
+        if (search.getLocation() != null && !search.getLocation().isBlank()) {
+            criteria = criteria.and("location").like(EventSpecifications.escapeLike(search.getLocation()) + "%");
+        }
+        if (search.getBeginEventFrom() != null) {
+            criteria = criteria.and("beginEventDateTime").greaterThanOrEquals(search.getBeginEventFrom());
+        }
+        if (search.getBeginEventTo() != null) {
+            criteria = criteria.and("beginEventDateTime").lessThan(search.getBeginEventTo());
+        }
+        if (search.getBeginEnrollmentFrom() != null) {
+            criteria = criteria.and("beginEnrollmentDateTime").greaterThanOrEquals(search.getBeginEnrollmentFrom());
+        }
+        if (search.getBeginEnrollmentTo() != null) {
+            criteria = criteria.and("beginEnrollmentDateTime").lessThan(search.getBeginEnrollmentTo());
+        }
+        return criteria;
+    }
+}
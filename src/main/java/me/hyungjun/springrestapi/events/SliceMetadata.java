@@ -0,0 +1,12 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.springframework.hateoas.PagedModel;
+
+@JsonIgnoreProperties({"totalElements", "totalPages"})
+class SliceMetadata extends PagedModel.PageMetadata {
+
+    SliceMetadata(long size, long number) {
+        super(size, number, 0, 0);
+    }
+}
@@ -2,6 +2,7 @@ package me.hyungjun.springrestapi.index;
 
 
 import me.hyungjun.springrestapi.events.EventController;
+import org.springframework.context.annotation.Profile;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 
 @RestController
+@Profile("!reactive")
 public class IndexController {
 
     @GetMapping("/api")
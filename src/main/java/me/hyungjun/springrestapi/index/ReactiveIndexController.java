@@ -0,0 +1,29 @@
+package me.hyungjun.springrestapi.index;
+
+import me.hyungjun.springrestapi.events.ReactiveEventController;
+import org.springframework.context.annotation.Profile;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
+
+@RestController
+@Profile("reactive")
+public class ReactiveIndexController {
+
+    @GetMapping("/api")
+    public Mono<RepresentationModel> index(ServerWebExchange exchange) {
+        return linkTo(methodOn(ReactiveEventController.class).queryEvents(null, null, null), exchange)
+                .withRel("events")
+                .toMono()
+                .map(link -> {
+                    var index = new RepresentationModel<>();
+                    index.add(link);
+                    return index;
+                });
+    }
+}
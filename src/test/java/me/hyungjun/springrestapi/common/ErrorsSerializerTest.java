@@ -0,0 +1,48 @@
+package me.hyungjun.springrestapi.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorsSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorsSerializer errorsSerializer = new ErrorsSerializer();
+
+    @Test
+    @DisplayName("필드 오류와 글로벌 오류를 순서대로 직렬화한다")
+    public void serialize() throws IOException {
+        // Given
+        Errors errors = errors();
+        StringWriter writer = new StringWriter();
+
+        // When
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            errorsSerializer.serialize(errors, generator, objectMapper.getSerializerProvider());
+            generator.writeEndObject();
+        }
+
+        // Then
+        assertThat(writer.toString()).isEqualTo("{\"errors\":["
+                + "{\"field\":\"basePrice\",\"objectName\":\"target\",\"code\":\"wrongValue\","
+                + "\"defaultMessage\":\"BasePrice is \\\"wrong\\\"\",\"rejectedValue\":\"200\"},"
+                + "{\"objectName\":\"target\",\"code\":\"unreadable\",\"defaultMessage\":\"Unreadable\"}]}");
+    }
+
+    private Errors errors() {
+        Errors errors = new MapBindingResult(Map.of("basePrice", 200), "target");
+        errors.rejectValue("basePrice", "wrongValue", "BasePrice is \"wrong\"");
+        errors.reject("unreadable", "Unreadable");
+        return errors;
+    }
+}
@@ -0,0 +1,64 @@
+package me.hyungjun.springrestapi.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCacheInvalidatorTest {
+
+    private final LoopbackCacheInvalidationBus bus = new LoopbackCacheInvalidationBus();
+    private final ConcurrentMapCacheManager nodeACaches = new ConcurrentMapCacheManager("events");
+    private final ConcurrentMapCacheManager nodeBCaches = new ConcurrentMapCacheManager("events");
+    private final SimpleMeterRegistry nodeBMeters = new SimpleMeterRegistry();
+    private final NearCacheInvalidator nodeA = new NearCacheInvalidator(nodeACaches, bus, new SimpleMeterRegistry());
+    private final NearCacheInvalidator nodeB = new NearCacheInvalidator(nodeBCaches, bus, nodeBMeters);
+
+    @AfterEach
+    public void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 노드에서 삭제한 캐시 항목은 다른 노드의 near cache 에서도 삭제된다")
+    public void evictReachesOtherNodes() {
+        // Given
+        nodeACaches.getCache("events").put(1, "event 1");
+        nodeBCaches.getCache("events").put(1, "event 1");
+        nodeBCaches.getCache("events").put(2, "event 2");
+
+        // When
+        nodeA.evict("events", 1);
+
+        // Then
+        assertThat(nodeACaches.getCache("events").get(1)).isNull();
+        assertThat(nodeBCaches.getCache("events").get(1)).isNull();
+        assertThat(nodeBCaches.getCache("events").get(2)).isNotNull();
+        assertThat(nodeBMeters.get("cache.invalidation.stale.window").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 삭제는 커밋 후에 다른 노드로 전파된다")
+    public void evictIsPublishedAfterCommit() {
+        // Given
+        nodeBCaches.getCache("events").put(1, "event 1");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        nodeA.evict("events", 1);
+
+        // Then
+        assertThat(nodeBCaches.getCache("events").get(1)).isNotNull();
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertThat(nodeBCaches.getCache("events").get(1)).isNull();
+    }
+}
@@ -0,0 +1,62 @@
+package me.hyungjun.springrestapi.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                h2("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1"), h2("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1"));
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로, 그 외에는 프라이머리로 라우팅된다")
+    public void routesByTransactionReadOnlyFlag() {
+        transactionTemplate.setReadOnly(true);
+        String readOnly = transactionTemplate.execute(status -> database());
+        assertThat(readOnly).isEqualToIgnoringCase("replica");
+
+        transactionTemplate.setReadOnly(false);
+        String readWrite = transactionTemplate.execute(status -> database());
+        assertThat(readWrite).isEqualToIgnoringCase("primary");
+
+        assertThat(database()).isEqualToIgnoringCase("primary");
+    }
+
+    @Test
+    @DisplayName("onPrimary 안의 읽기 전용 트랜잭션은 프라이머리를 사용한다")
+    public void onPrimaryOverridesReadOnlyRouting() {
+        transactionTemplate.setReadOnly(true);
+
+        String database = ReplicaRoutingDataSource.onPrimary(() -> transactionTemplate.execute(status -> database()));
+
+        assertThat(database).isEqualToIgnoringCase("primary");
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private static DataSource h2(String url) {
+        return new DriverManagerDataSource(url, "sa", "");
+    }
+}
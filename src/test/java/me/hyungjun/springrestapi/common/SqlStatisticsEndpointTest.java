@@ -0,0 +1,75 @@
+package me.hyungjun.springrestapi.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.servlet.DispatcherType;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatisticsEndpointTest {
+
+    @Test
+    @DisplayName("같은 쿼리가 임계값보다 많이 실행된 요청은 N+1 의심으로 기록된다")
+    public void recordFlagsRepeatedStatements() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatisticsEndpoint endpoint = new SqlStatisticsEndpoint(meterRegistry, 5);
+
+        // When
+        endpoint.record("EventController.queryEvents", "/api/events", Map.of("select e from event e", 1));
+        endpoint.record("EventController.queryEvents", "/api/events",
+                Map.of("select e from event e", 1, "select a from account a where a.id=?", 6));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        Map<String, SqlStatisticsEndpoint.HandlerStatistics> handlers =
+                (Map<String, SqlStatisticsEndpoint.HandlerStatistics>) endpoint.sqlStatistics().get("handlers");
+        SqlStatisticsEndpoint.HandlerStatistics statistics = handlers.get("EventController.queryEvents");
+        assertThat(statistics.getRequests()).isEqualTo(2);
+        assertThat(statistics.getStatements()).isEqualTo(8);
+        assertThat(statistics.getMaxStatements()).isEqualTo(7);
+        assertThat(statistics.getSuspects()).isEqualTo(1);
+        assertThat(statistics.getLastSuspect().getRepeats()).isEqualTo(6);
+        assertThat(meterRegistry.get("http.server.requests.statements").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 첫 디스패치가 끝나면 스레드의 카운터를 비우고 비동기 디스패치에서 이어서 센다")
+    public void asyncRequestMovesCountsToAsyncDispatch() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatisticsEndpoint endpoint = new SqlStatisticsEndpoint(meterRegistry, 5);
+        RequestMetricsInterceptor interceptor = new RequestMetricsInterceptor(meterRegistry, endpoint);
+        SqlStatementCounter counter = new SqlStatementCounter();
+        HandlerMethod handler = new HandlerMethod(this, getClass().getMethod("asyncRequestMovesCountsToAsyncDispatch"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/changes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        interceptor.preHandle(request, response, handler);
+        counter.inspect("select c from event_change c");
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        Map<String, Integer> leftOnThread = SqlStatementCounter.stop();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, handler);
+        counter.inspect("select e from event e");
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Then
+        assertThat(leftOnThread).isEmpty();
+        @SuppressWarnings("unchecked")
+        Map<String, SqlStatisticsEndpoint.HandlerStatistics> handlers =
+                (Map<String, SqlStatisticsEndpoint.HandlerStatistics>) endpoint.sqlStatistics().get("handlers");
+        SqlStatisticsEndpoint.HandlerStatistics statistics =
+                handlers.get("SqlStatisticsEndpointTest.asyncRequestMovesCountsToAsyncDispatch");
+        assertThat(statistics.getRequests()).isEqualTo(1);
+        assertThat(statistics.getStatements()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,129 @@
+package me.hyungjun.springrestapi.events;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test profile turns the page tier off for the controller tests, which write around the cache; this one turns it
+ * back on and only writes through paths that evict.
+ */
+@SpringBootTest(properties = "events.cache.max-pages=2")
+@ActiveProfiles("test")
+class EventCacheTest {
+
+    private static final Pageable NEWEST = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"));
+
+    @Autowired
+    EventCache eventCache;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventBatchService eventBatchService;
+
+    private final List<Integer> eventIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        eventCache.evictPages();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventRepository.deleteAllById(eventIds);
+        eventCache.evictAll();
+    }
+
+    @Test
+    @DisplayName("앞쪽 목록 페이지만 캐시된다")
+    public void leadingPagesAreCached() {
+        // Given
+        saveEvent(1);
+        Pageable beyondCachedPages = PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "id"));
+
+        // When
+        Slice<Event> first = eventCache.findSlice(NEWEST);
+        Slice<Event> beyond = eventCache.findSlice(beyondCachedPages);
+
+        // Then
+        assertThat(eventCache.findSlice(NEWEST)).isSameAs(first);
+        assertThat(eventCache.findSlice(beyondCachedPages)).isNotSameAs(beyond);
+    }
+
+    @Test
+    @DisplayName("이벤트 하나가 바뀌면 캐시된 목록 페이지가 모두 삭제된다")
+    public void evictDropsPages() {
+        // Given
+        Event event = saveEvent(1);
+        Slice<Event> cached = eventCache.findSlice(NEWEST);
+        Event added = saveEvent(2);
+
+        // When
+        eventCache.evict(added.getId());
+
+        // Then
+        Slice<Event> reloaded = eventCache.findSlice(NEWEST);
+        assertThat(reloaded).isNotSameAs(cached);
+        assertThat(reloaded.getContent()).extracting(Event::getId).startsWith(added.getId(), event.getId());
+    }
+
+    @Test
+    @DisplayName("여러 이벤트를 한번에 생성하면 캐시된 목록 페이지가 삭제된다")
+    public void batchCreateDropsPages() {
+        // Given
+        saveEvent(1);
+        Slice<Event> cached = eventCache.findSlice(NEWEST);
+
+        // When
+        EventBatchResult result = eventBatchService.createAll(List.of(eventDto(2), eventDto(3)));
+        result.getEvents().forEach(event -> eventIds.add(event.getId()));
+
+        // Then
+        assertThat(result.hasErrors()).isFalse();
+        Slice<Event> reloaded = eventCache.findSlice(NEWEST);
+        assertThat(reloaded).isNotSameAs(cached);
+        assertThat(reloaded.getContent()).extracting(Event::getId).containsAll(eventIds);
+    }
+
+    private Event saveEvent(int index) {
+        Event event = eventRepository.save(Event.builder()
+                .name("cached event " + index)
+                .description("test event")
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .location("강남역 D2 스타트업 팩토리")
+                .build());
+        eventIds.add(event.getId());
+        return event;
+    }
+
+    private static EventDto eventDto(int index) {
+        return EventDto.builder()
+                .name("cached event " + index)
+                .description("test event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 1, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .location("강남역 D2 스타트업 팩토리")
+                .limitOfEnrollment(10)
+                .build();
+    }
+}
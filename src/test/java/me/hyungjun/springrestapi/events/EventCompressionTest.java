@@ -0,0 +1,80 @@
+package me.hyungjun.springrestapi.events;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compression happens in Tomcat, after MockMvc would have returned, so these requests go over a real connection.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class EventCompressionTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    private final List<Integer> eventIds = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        eventRepository.deleteAllById(eventIds);
+    }
+
+    @Test
+    @DisplayName("2KB 가 넘는 목록 응답은 약한 ETag 와 함께 gzip 으로 압축된다")
+    public void largeListingIsCompressed() throws Exception {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            eventIds.add(eventRepository.save(Event.builder()
+                    .name("compressed event " + i)
+                    .description("an event with enough text that a page of them passes the compression threshold")
+                    .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                    .location("강남역 D2 스타트업 팩토리")
+                    .build()).getId());
+        }
+
+        // When
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder()
+                        .uri(URI.create("http://localhost:" + port + "/api/events?size=20"))
+                        .header(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(response.headers().firstValue(HttpHeaders.ETAG)).hasValueSatisfying(eTag ->
+                assertThat(eTag).startsWith("W/"));
+        assertThat(response.headers().allValues(HttpHeaders.VARY)).anySatisfy(vary ->
+                assertThat(vary).containsIgnoringCase(HttpHeaders.ACCEPT));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            String json = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(json.length()).isGreaterThan(2048);
+            assertThat(json).contains("\"_embedded\"");
+        }
+    }
+}
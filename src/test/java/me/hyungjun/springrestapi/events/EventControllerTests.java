@@ -1,6 +1,9 @@
 package me.hyungjun.springrestapi.events;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.jayway.jsonpath.JsonPath;
 import me.hyungjun.springrestapi.common.RestDocsConfiguration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,18 +18,33 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -50,6 +68,18 @@ public class EventControllerTests {
     @Autowired
     ModelMapper modelMapper;
 
+    @Autowired
+    EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    EventOutboxRelay eventOutboxRelay;
+
+    @Autowired
+    EventChangeFeed eventChangeFeed;
+
+    @Autowired
+    EventChangeRepository eventChangeRepository;
+
     @Test
     @DisplayName("정상적으로 이벤트를 생성하는 테스트")
     public void createEvent() throws Exception {
@@ -204,6 +234,98 @@ public class EventControllerTests {
                 .andExpect(jsonPath("_links.index").exists());
     }
 
+    @Test
+    @DisplayName("여러 이벤트를 한번에 생성하는 테스트")
+    public void createEvents() throws Exception {
+        List<EventDto> eventDtos = List.of(generateEventDto(1), generateEventDto(2), generateEventDto(3));
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaTypes.HAL_JSON)
+                        .content(objectMapper.writeValueAsString(eventDtos))
+                )
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(3))
+                .andExpect(jsonPath("_embedded.eventList[0].id").exists())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.query-events").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("create-events-batch"));
+    }
+
+    @Test
+    @DisplayName("여러 이벤트 중 잘못된 값이 있으면 항목별 오류와 함께 bad request 테스트")
+    public void createEvents_Bad_Request_Wrong_Input() throws Exception {
+        EventDto wrongEventDto = generateEventDto(2);
+        wrongEventDto.setBasePrice(20000);
+        wrongEventDto.setMaxPrice(1000);
+        List<EventDto> eventDtos = List.of(generateEventDto(1), wrongEventDto, new EventDto());
+        long count = eventRepository.count();
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDtos))
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("items.length()").value(2))
+                .andExpect(jsonPath("items[0].index").value(1))
+                .andExpect(jsonPath("items[0].errors[0].field").exists())
+                .andExpect(jsonPath("items[0].errors[0].code").exists())
+                .andExpect(jsonPath("items[1].index").value(2))
+                .andExpect(jsonPath("_links.index").exists());
+
+        assertThat(eventRepository.count()).isEqualTo(count);
+    }
+
+    @Test
+    @DisplayName("여러 이벤트 중 null 항목이 있으면 해당 위치의 오류와 함께 bad request 테스트")
+    public void createEvents_Bad_Request_Null_Item() throws Exception {
+        long count = eventRepository.count();
+        String eventDto = objectMapper.writeValueAsString(generateEventDto(1));
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + eventDto + ",null]")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("items.length()").value(1))
+                .andExpect(jsonPath("items[0].index").value(1))
+                .andExpect(jsonPath("items[0].errors[0].code").value("required"));
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType("application/x-ndjson")
+                        .content("null\n" + eventDto + "\n")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("items.length()").value(1))
+                .andExpect(jsonPath("items[0].index").value(0))
+                .andExpect(jsonPath("items[0].errors[0].code").value("required"));
+
+        assertThat(eventRepository.count()).isEqualTo(count);
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트림으로 여러 이벤트를 생성하는 테스트")
+    public void createEventsFromStream() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            content.append(objectMapper.writeValueAsString(generateEventDto(i))).append('\n');
+        }
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType("application/x-ndjson")
+                        .content(content.toString())
+                )
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("created").value(120))
+                .andExpect(jsonPath("_links.query-events").exists());
+    }
+
     @Test
     @DisplayName("30개의 이벤트를 10개씩 두번째 페이지 조회하는 테스트")
     public void queryEvents() throws Exception {
@@ -225,6 +347,285 @@ public class EventControllerTests {
                 .andDo(document("query-events"));
     }
 
+    @Test
+    @DisplayName("Accept 헤더에 따라 CBOR 로 목록을 조회하는 테스트")
+    public void queryEventsAsCbor() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/events")
+                        .param("page", "1")
+                        .param("size", "10")
+                        .accept(MediaType.APPLICATION_CBOR)
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode page = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(page.at("/_embedded/eventList").size()).isEqualTo(10);
+        assertThat(page.at("/_embedded/eventList/0/_links/self/href").asText()).isNotEmpty();
+        assertThat(page.at("/_links/profile/href").asText()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 개수 없이 다음 페이지 여부만 확인하는 목록 조회 테스트")
+    public void queryEventsWithoutTotal() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                        .param("page", "1")
+                        .param("size", "10")
+                        .param("withTotal", "false")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.size").value(10))
+                .andExpect(jsonPath("page.number").value(1))
+                .andExpect(jsonPath("page.totalElements").doesNotExist())
+                .andExpect(jsonPath("page.totalPages").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.prev").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+    }
+
+    @Test
+    @DisplayName("조건 없는 목록 조회는 추정된 전체 개수를 표시한다")
+    public void queryEventsWithEstimatedTotal() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                        .param("page", "0")
+                        .param("size", "10")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.estimated").value(true))
+                .andExpect(jsonPath("page.totalElements").exists())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.next").exists());
+    }
+
+    @Test
+    @DisplayName("fields 파라미터로 필요한 속성만 목록 조회하는 테스트")
+    public void queryEventsWithFields() throws Exception {
+        // Given
+        IntStream.range(0, 5).forEach(this::generateEvent);
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                        .param("fields", "name,beginEventDateTime,eventStatus")
+                        .param("size", "3")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].name").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].beginEventDateTime").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].eventStatus").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].description").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0].location").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("page").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+
+        mockMvc.perform(get("/api/events")
+                        .param("fields", "name,numberOfEnrollment")
+                )
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/events")
+                        .param("fields", "name")
+                        .param("keyset", "true")
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("fields 파라미터로 이벤트 하나의 일부 속성만 조회하기")
+    public void getEventWithFields() throws Exception {
+        // Given
+        Event event = this.generateEvent(100);
+
+        // When & Then
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .param("fields", "id,name")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("id").value(event.getId()))
+                .andExpect(jsonPath("name").value(event.getName()))
+                .andExpect(jsonPath("description").doesNotExist())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+    }
+
+    @Test
+    @DisplayName("상태, 무료 여부, 장소, 기간 조건으로 이벤트를 검색하는 테스트")
+    public void queryEventsWithFilter() throws Exception {
+        // Given
+        IntStream.range(0, 5).forEach(this::generateEvent);
+        IntStream.range(0, 3).forEach(index -> {
+            Event event = generateEvent(index);
+            event.setBasePrice(0);
+            event.setMaxPrice(0);
+            event.setFree(true);
+            event.setLocation("판교 100% 테크노밸리 " + index);
+            event.setEventStatus(EventStatus.PUBLISHED);
+            eventRepository.save(event);
+        });
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                        .param("eventStatus", "PUBLISHED")
+                        .param("free", "true")
+                        .param("location", "판교 100%")
+                        .param("beginEventFrom", "2022-09-03T00:00:00")
+                        .param("beginEventTo", "2022-09-04T00:00:00")
+                        .param("size", "10")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(3))
+                .andExpect(jsonPath("_embedded.eventList[*].free").value(everyItem(is(true))))
+                .andExpect(jsonPath("_embedded.eventList[*].eventStatus").value(everyItem(is("PUBLISHED"))));
+    }
+
+    @Test
+    @DisplayName("30개의 이벤트를 커서 기반으로 10개씩 다음 페이지 조회하는 테스트")
+    public void queryEventsByKeyset() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        // When
+        // The query string, not just the parameters, so the cursor links carry keyset, size and sort over
+        MvcResult firstPage = mockMvc.perform(get("/api/events?keyset=true&size=10&sort=name,DESC"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").doesNotExist())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andReturn();
+        String next = JsonPath.read(firstPage.getResponse().getContentAsString(), "_links.next.href");
+
+        // Then
+        mockMvc.perform(get(URI.create(next)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").exists());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회했을 때 bad request 테스트")
+    public void queryEventsByKeyset_Bad_Cursor() throws Exception {
+        mockMvc.perform(get("/api/events")
+                        .param("after", "not-a-cursor")
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("정렬 키가 null 인 이벤트도 커서로 빠짐없이 조회하는 테스트")
+    public void queryEventsByKeysetWithNullKeys() throws Exception {
+        // Given
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Event event = this.generateEvent(400 + i);
+            event.setLocation("keyset null test");
+            event.setBeginEventDateTime(i < 2 ? null : LocalDateTime.of(2022, 9, 3 + i, 12, 0));
+            eventRepository.save(event);
+            expected.add(event.getId());
+        }
+        // Nulls come last in either direction
+        List<Integer> ascending = new ArrayList<>(expected.subList(2, 5));
+        ascending.addAll(expected.subList(0, 2));
+
+        // When
+        List<Integer> ids = new ArrayList<>();
+        String next = "/api/events?keyset=true&size=2&sort=beginEventDateTime,ASC&location=keyset%20null%20test";
+        String last = null;
+        while (next != null) {
+            String content = mockMvc.perform(get(URI.create(next)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            ids.addAll(JsonPath.read(content, "_embedded.eventList[*].id"));
+            Map<String, Object> links = JsonPath.read(content, "_links");
+            last = content;
+            next = links.containsKey("next") ? JsonPath.read(content, "_links.next.href") : null;
+        }
+        String prev = JsonPath.read(last, "_links.prev.href");
+
+        // Then
+        assertThat(ids).containsExactlyElementsOf(ascending);
+        mockMvc.perform(get(URI.create(prev)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].id", contains(ascending.get(2), ascending.get(3))));
+    }
+
+    @Test
+    @DisplayName("같은 이벤트 목록이라도 다음 페이지가 생기면 ETag 가 바뀐다")
+    public void queryEventsETagFollowsNextLink() throws Exception {
+        // Given
+        for (int i = 0; i < 2; i++) {
+            Event event = this.generateEvent(500 + i);
+            event.setLocation("keyset etag test");
+            eventRepository.save(event);
+        }
+        URI uri = URI.create("/api/events?keyset=true&size=2&sort=id,ASC&location=keyset%20etag%20test");
+        String eTag = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.next").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        Event later = this.generateEvent(502);
+        later.setLocation("keyset etag test");
+        eventRepository.save(later);
+
+        // Then
+        mockMvc.perform(get(uri)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(2))
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    @DisplayName("모든 이벤트를 CSV로 내보내는 테스트")
+    public void exportEvents() throws Exception {
+        // Given
+        IntStream.range(0, 3).forEach(this::generateEvent);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/events/export")
+                        .param("format", "csv")
+                        .accept("text/csv")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(startsWith("id,name,description,")))
+                .andExpect(content().string(containsString(",test event,")));
+    }
+
     @Test
     @DisplayName("기존의 이벤트를 하나 조회하기")
     public void getEvent() throws Exception {
@@ -241,6 +642,50 @@ public class EventControllerTests {
                 .andDo(document("get-event"));
     }
 
+    @Test
+    @DisplayName("ETag가 같은 이벤트를 조회했을 때 304 응답받기")
+    public void getEventNotModified() throws Exception {
+        // Given
+        Event event = this.generateEvent(100);
+        String eTag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("CBOR 표현은 HAL JSON 과 다른 ETag 를 가진다")
+    public void getEventETagPerRepresentation() throws Exception {
+        // Given
+        Event event = this.generateEvent(100);
+        String jsonETag = mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        String cborETag = mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(cborETag).isNotEqualTo(jsonETag).doesNotStartWith("W/");
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, cborETag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("없는 이벤트를 조회했을 때 404 응답받기")
     public void getEvent404() throws Exception {
@@ -270,6 +715,47 @@ public class EventControllerTests {
                 .andDo(document("update-event"));
     }
 
+    @Test
+    @DisplayName("이벤트 수정 후 캐시된 이벤트가 아닌 수정된 이벤트를 조회하는 테스트")
+    public void getEventAfterUpdate() throws Exception {
+        // Given
+        eventChangeFeed.startTailing();
+        Event event = this.generateEvent(300);
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value(event.getName()));
+        EventDto eventDto = modelMapper.map(event, EventDto.class);
+        String eventName = "Updated Cached Event";
+        eventDto.setName(eventName);
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto))
+                )
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value(eventName));
+    }
+
+    @Test
+    @DisplayName("If-Match 헤더의 ETag가 다르면 412 응답받기")
+    public void updateEvent412() throws Exception {
+        // Given
+        Event event = this.generateEvent(200);
+        EventDto eventDto = modelMapper.map(event, EventDto.class);
+        eventDto.setName("Updated Event");
+
+        // When & Then
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"" + (event.getVersion() + 1) + "\"")
+                        .content(objectMapper.writeValueAsString(eventDto))
+                )
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     @DisplayName("잘못된 입력값인 경우 실패 테스트")
     public void updateEvent400Wrong() throws Exception{
@@ -319,6 +805,201 @@ public class EventControllerTests {
     }
 
 
+    @Test
+    @DisplayName("Merge Patch 로 변경된 필드만 수정하는 테스트")
+    public void patchEvent() throws Exception {
+        // Given
+        Event event = this.generateEvent(200);
+        String eventName = "Patched Event";
+
+        // When & Then
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\":\"" + eventName + "\"}")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value(eventName))
+                .andExpect(jsonPath("description").value(event.getDescription()))
+                .andExpect(jsonPath("_links.profile.href").value(containsString("resources-events-patch")))
+                .andDo(document("patch-event"));
+    }
+
+    @Test
+    @DisplayName("변경 사항이 없는 Merge Patch 는 저장하지 않는 테스트")
+    public void patchEventWithoutChanges() throws Exception {
+        // Given
+        Event event = this.generateEvent(200);
+
+        // When & Then
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\":\"" + event.getName() + "\",\"basePrice\":" + event.getBasePrice() + "}")
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, EventETags.of(event.getVersion())));
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getVersion()).isEqualTo(event.getVersion());
+    }
+
+    @Test
+    @DisplayName("Merge Patch 결과가 잘못된 경우 실패 테스트")
+    public void patchEvent400Wrong() throws Exception {
+        // Given
+        Event event = this.generateEvent(200);
+
+        // When & Then
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"basePrice\":20000}")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].field").value("basePrice"));
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"description\":null}")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].field").value("description"));
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"eventStatus\":\"PUBLISHED\"}")
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    @DisplayName("키워드로 이벤트를 검색하고 다음 페이지를 조회하는 테스트")
+    public void searchEvents() throws Exception {
+        // Given
+        IntStream.range(0, 3).forEach(this::generateEvent);
+        // Terms no other test uses, since every event in the shared database is indexed
+        Event named = this.generateEvent(100);
+        named.setName("Hyungjun REST API");
+        eventRepository.save(named);
+        Event described = this.generateEvent(101);
+        described.setDescription("REST API Development by Hyungjun");
+        eventRepository.save(described);
+        eventSearchIndex.rebuild();
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/events/search?q=hyungjun%20api&size=1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(named.getId()))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andDo(document("search-events"))
+                .andReturn();
+        String next = JsonPath.read(result.getResponse().getContentAsString(), "_links.next.href");
+
+        // Then
+        mockMvc.perform(get(URI.create(next)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(described.getId()))
+                .andExpect(jsonPath("_links.next").doesNotExist());
+    }
+
+
+    @Test
+    @DisplayName("이벤트 생성 내역을 롱 폴링으로 받아보는 테스트")
+    public void queryEventChanges() throws Exception {
+        // Given
+        // Earlier tests leave unrelayed records behind; relay them first so they don't crowd out this one
+        eventOutboxRelay.relay();
+        eventChangeFeed.startTailing();
+        Long maxPosition = eventChangeRepository.findMaxPosition();
+        long since = maxPosition == null ? 0 : maxPosition;
+        MvcResult pending = mockMvc.perform(get("/api/events/changes")
+                        .param("since", String.valueOf(since))
+                        .param("timeout", "10000")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        MvcResult created = mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(generateEventDto(0)))
+                )
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer eventId = JsonPath.read(created.getResponse().getContentAsString(), "id");
+        eventOutboxRelay.relay();
+
+        // Then
+        mockMvc.perform(asyncDispatch(pending))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventChangeList[*].eventId", hasItem(eventId)))
+                .andExpect(jsonPath("_embedded.eventChangeList[*].type", hasItem("CREATED")))
+                .andExpect(jsonPath("_embedded.eventChangeList[0]._links.event").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andDo(document("query-event-changes"));
+    }
+
+    @Test
+    @DisplayName("이벤트 변경을 Server-Sent Events 로 받아보는 테스트")
+    public void streamEvent() throws Exception {
+        // Given
+        eventChangeFeed.startTailing();
+        Event event = this.generateEvent(300);
+        MvcResult stream = mockMvc.perform(get("/api/events/{id}/stream", event.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(stream.getResponse().getContentAsString()).contains("event:snapshot");
+
+        // When
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\":\"Streamed Event\"}")
+                )
+                .andExpect(status().isOk());
+        eventOutboxRelay.relay();
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stream.getResponse().getContentAsString().contains("event:UPDATED")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(stream.getResponse().getContentAsString())
+                .contains("event:UPDATED")
+                .contains("\"fields\":\"name\"")
+                .contains("Streamed Event");
+    }
+
+    @Test
+    @DisplayName("없는 이벤트의 스트림을 요청할 때 404 응답받기")
+    public void streamEvent404() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/events/11883/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(status().isNotFound());
+    }
+
+
+    private EventDto generateEventDto(int index) {
+        return EventDto.builder()
+                .name("batch event " + index)
+                .description("test event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 01, 12, 00))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 02, 12, 00))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 03, 12, 00))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 04, 12, 00))
+                .basePrice(100)
+                .maxPrice(200)
+                .location("강남역 D2 스타트업 팩토리")
+                .limitOfEnrollment(10)
+                .build();
+    }
+
     private Event generateEvent(int index) {
         Event event = Event.builder()
                 .name("event " + index)
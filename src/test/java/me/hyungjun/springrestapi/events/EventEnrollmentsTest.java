@@ -0,0 +1,116 @@
+package me.hyungjun.springrestapi.events;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventEnrollmentsTest {
+
+    @Autowired
+    EventEnrollments eventEnrollments;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    private Event event;
+
+    @AfterEach
+    public void tearDown() {
+        if (event != null) {
+            eventEnrollments.invalidate(event.getId());
+            eventRepository.deleteById(event.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("64개의 동시 요청이 몰려도 정원을 초과해서 등록되지 않는다")
+    public void enrollConcurrently() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        event = eventRepository.save(Event.builder()
+                .name("flash sale")
+                .description("test event")
+                .beginEnrollmentDateTime(now.minusDays(1))
+                .closeEnrollmentDateTime(now.plusDays(1))
+                .beginEventDateTime(now.plusDays(2))
+                .endEventDateTime(now.plusDays(3))
+                .limitOfEnrollment(10)
+                .eventStatus(EventStatus.BEGIN_ENROLLMENT)
+                .build());
+        int clients = 64;
+        ExecutorService executorService = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<EnrollmentResult>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < clients * 4; i++) {
+            Callable<EnrollmentResult> enroll = () -> {
+                start.await();
+                return eventEnrollments.enroll(event);
+            };
+            futures.add(executorService.submit(enroll));
+        }
+        start.countDown();
+        int enrolled = 0;
+        for (Future<EnrollmentResult> future : futures) {
+            if (future.get() == EnrollmentResult.ENROLLED) {
+                enrolled++;
+            }
+        }
+        executorService.shutdown();
+
+        // Then
+        assertThat(enrolled).isEqualTo(10);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getNumberOfEnrollment()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("등록이 마감된 이벤트에는 등록할 수 없다")
+    public void enrollClosedEvent() {
+        Event closed = Event.builder()
+                .id(1)
+                .limitOfEnrollment(10)
+                .eventStatus(EventStatus.CLOSED_ENROLLMENT)
+                .build();
+
+        assertThat(eventEnrollments.enroll(closed)).isEqualTo(EnrollmentResult.CLOSED);
+    }
+
+    @Test
+    @DisplayName("등록 기간이 아니거나 등록 시작 전 상태인 이벤트에는 등록할 수 없다")
+    public void enrollOutsideEnrollmentPeriod() {
+        LocalDateTime now = LocalDateTime.now();
+        Event notYetOpen = Event.builder()
+                .id(1)
+                .beginEnrollmentDateTime(now.plusDays(1))
+                .closeEnrollmentDateTime(now.plusDays(2))
+                .limitOfEnrollment(10)
+                .eventStatus(EventStatus.BEGIN_ENROLLMENT)
+                .build();
+        Event draft = Event.builder()
+                .id(1)
+                .beginEnrollmentDateTime(now.minusDays(1))
+                .closeEnrollmentDateTime(now.plusDays(1))
+                .limitOfEnrollment(10)
+                .build();
+
+        assertThat(eventEnrollments.enroll(notYetOpen)).isEqualTo(EnrollmentResult.CLOSED);
+        assertThat(eventEnrollments.enroll(draft)).isEqualTo(EnrollmentResult.CLOSED);
+    }
+}
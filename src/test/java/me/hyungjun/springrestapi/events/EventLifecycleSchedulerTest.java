@@ -0,0 +1,138 @@
+package me.hyungjun.springrestapi.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventLifecycleSchedulerTest {
+
+    @Autowired
+    EventLifecycleScheduler eventLifecycleScheduler;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final List<Integer> eventIds = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        eventRepository.deleteAllById(eventIds);
+    }
+
+    @Test
+    @DisplayName("지난 일정의 이벤트는 한번의 tick으로 종료 상태가 된다")
+    public void tickMovesEventToEnded() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Event published = save(generateEvent(EventStatus.PUBLISHED, now.minusDays(4)));
+        Event draft = save(generateEvent(EventStatus.DRAFT, now.minusDays(4)));
+        eventLifecycleScheduler.schedule(published);
+
+        // When
+        eventLifecycleScheduler.tick();
+
+        // Then
+        assertThat(eventRepository.findById(published.getId()).orElseThrow().getEventStatus())
+                .isEqualTo(EventStatus.ENDED);
+        assertThat(eventRepository.findById(draft.getId()).orElseThrow().getEventStatus())
+                .isEqualTo(EventStatus.ENDED);
+    }
+
+    @Test
+    @DisplayName("API로 생성한 이벤트도 등록 시작 시각이 지나면 등록 시작 상태가 된다")
+    public void tickMovesCreatedEvent() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        EventDto eventDto = EventDto.builder()
+                .name("created event")
+                .description("test event")
+                .beginEnrollmentDateTime(now.minusHours(1))
+                .closeEnrollmentDateTime(now.plusDays(1))
+                .beginEventDateTime(now.plusDays(2))
+                .endEventDateTime(now.plusDays(3))
+                .basePrice(100)
+                .maxPrice(200)
+                .location("강남역 D2 스타트업 팩토리")
+                .limitOfEnrollment(10)
+                .build();
+        MvcResult created = mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto))
+                )
+                .andExpect(status().isCreated())
+                .andReturn();
+        Integer id = JsonPath.read(created.getResponse().getContentAsString(), "id");
+        eventIds.add(id);
+        assertThat(eventRepository.findById(id).orElseThrow().getEventStatus()).isEqualTo(EventStatus.DRAFT);
+
+        // When
+        eventLifecycleScheduler.tick();
+
+        // Then
+        assertThat(eventRepository.findById(id).orElseThrow().getEventStatus())
+                .isEqualTo(EventStatus.BEGIN_ENROLLMENT);
+    }
+
+    @Test
+    @DisplayName("등록 기간 중인 이벤트는 등록 시작 상태까지만 바뀐다")
+    public void tickMovesOnlyDueTransitions() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Event published = save(generateEvent(EventStatus.PUBLISHED, now.minusDays(1)));
+        eventLifecycleScheduler.schedule(published);
+
+        // When
+        eventLifecycleScheduler.tick();
+
+        // Then
+        assertThat(eventRepository.findById(published.getId()).orElseThrow().getEventStatus())
+                .isEqualTo(EventStatus.BEGIN_ENROLLMENT);
+    }
+
+    private Event save(Event event) {
+        Event saved = eventRepository.save(event);
+        eventIds.add(saved.getId());
+        return saved;
+    }
+
+    private Event generateEvent(EventStatus eventStatus, LocalDateTime beginEnrollmentDateTime) {
+        return Event.builder()
+                .name("lifecycle event")
+                .description("test event")
+                .beginEnrollmentDateTime(beginEnrollmentDateTime)
+                .closeEnrollmentDateTime(beginEnrollmentDateTime.plusDays(2))
+                .beginEventDateTime(beginEnrollmentDateTime.plusDays(3))
+                .endEventDateTime(beginEnrollmentDateTime.plusDays(3).plusHours(1))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(10)
+                .eventStatus(eventStatus)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package me.hyungjun.springrestapi.events;
+
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventMapperTest {
+
+    private final EventMapper eventMapper = Mappers.getMapper(EventMapper.class);
+
+    @Test
+    public void toEvent() {
+        // Given
+        EventDto eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 1, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .location("강남역 D2 스타트업 팩토리")
+                .limitOfEnrollment(10)
+                .build();
+
+        // When
+        Event event = eventMapper.toEvent(eventDto);
+
+        // Then
+        assertThat(event.getId()).isNull();
+        assertThat(event.getName()).isEqualTo(eventDto.getName());
+        assertThat(event.getEndEventDateTime()).isEqualTo(eventDto.getEndEventDateTime());
+        assertThat(event.getLimitOfEnrollment()).isEqualTo(10);
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @Test
+    public void updateEvent() {
+        // Given
+        Event event = Event.builder()
+                .id(10)
+                .name("Event")
+                .location("강남역")
+                .eventStatus(EventStatus.PUBLISHED)
+                .build();
+        EventDto eventDto = EventDto.builder()
+                .name("Updated Event")
+                .basePrice(100)
+                .build();
+
+        // When
+        eventMapper.updateEvent(eventDto, event);
+
+        // Then
+        assertThat(event.getId()).isEqualTo(10);
+        assertThat(event.getName()).isEqualTo("Updated Event");
+        assertThat(event.getLocation()).isNull();
+        assertThat(event.getBasePrice()).isEqualTo(100);
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+    }
+}
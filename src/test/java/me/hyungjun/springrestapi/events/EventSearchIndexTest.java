@@ -0,0 +1,82 @@
+package me.hyungjun.springrestapi.events;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class EventSearchIndexTest {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventSearchIndex eventSearchIndex;
+
+    EventSearchIndexTest() throws IOException {
+        eventSearchIndex = new EventSearchIndex(eventRepository, mock(PlatformTransactionManager.class), 500);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        eventSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("재색인 중에도 기존 색인으로 검색되고, 그동안의 변경이 재색인 결과를 덮어쓴다")
+    public void searchDuringRebuild() throws IOException {
+        // Given
+        Event kotlin = event(1, "kotlin meetup");
+        Event other = event(2, "spring meetup");
+        given(eventRepository.streamAll(any(), anyInt())).willReturn(Stream.of(kotlin, other));
+        eventSearchIndex.rebuild();
+
+        // When
+        List<Integer> duringRebuild = new ArrayList<>();
+        Event renamed = event(1, "scala meetup");
+        // The rebuild reads the old row, then the rename commits before it finishes
+        given(eventRepository.streamAll(any(), anyInt())).willReturn(Stream.of(kotlin, other).peek(event -> {
+            if (event == kotlin) {
+                eventSearchIndex.index(renamed);
+                duringRebuild.addAll(ids("meetup"));
+            }
+        }));
+        int indexed = eventSearchIndex.rebuild();
+
+        // Then
+        assertThat(indexed).isEqualTo(2);
+        assertThat(duringRebuild).containsExactlyInAnyOrder(1, 2);
+        assertThat(ids("scala")).containsExactly(1);
+        assertThat(ids("kotlin")).isEmpty();
+        assertThat(eventSearchIndex.size()).isEqualTo(2);
+    }
+
+    private List<Integer> ids(String text) {
+        try {
+            List<Integer> ids = new ArrayList<>();
+            for (EventSearchHit hit : eventSearchIndex.search(text, 10, null)) {
+                ids.add(hit.getId());
+            }
+            return ids;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Event event(int id, String name) {
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .description("search index test")
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package me.hyungjun.springrestapi.events;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventValidatorTest {
+
+    @Test
+    public void validEvent() {
+        // Given
+        EventValidator eventValidator = new EventValidator(EventValidator.Mode.COLLECT_ALL, List.of());
+        EventDto eventDto = eventDto();
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+
+        // When
+        eventValidator.validate(eventDto, errors);
+
+        // Then
+        assertThat(errors.hasErrors()).isFalse();
+        assertThat(eventValidator.isValid(eventDto)).isTrue();
+    }
+
+    @Test
+    public void collectAll() {
+        // Given
+        EventValidator eventValidator = new EventValidator(EventValidator.Mode.COLLECT_ALL, List.of());
+        EventDto eventDto = wrongEventDto();
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+
+        // When
+        eventValidator.validate(eventDto, errors);
+
+        // Then
+        assertThat(fields(errors)).containsExactly("basePrice", "maxPrice",
+                "endEventDateTime", "beginEventDateTime", "closeEnrollmentDateTime");
+    }
+
+    @Test
+    public void failFastFollowsConfiguredOrder() {
+        // Given
+        EventValidator eventValidator = new EventValidator(EventValidator.Mode.FAIL_FAST,
+                List.of(EventRule.EVENT_PERIOD));
+        EventDto eventDto = wrongEventDto();
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+
+        // When
+        eventValidator.validate(eventDto, errors);
+
+        // Then
+        assertThat(fields(errors)).containsExactly("endEventDateTime", "beginEventDateTime");
+    }
+
+    @Test
+    public void changedFieldsOnly() {
+        // Given
+        EventValidator eventValidator = new EventValidator(EventValidator.Mode.COLLECT_ALL, List.of());
+        EventDto eventDto = wrongEventDto();
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+
+        // When
+        eventValidator.validate(eventDto, errors, Set.of("maxPrice"));
+
+        // Then
+        assertThat(fields(errors)).containsExactly("basePrice", "maxPrice");
+    }
+
+    @Test
+    public void missingDateTimes() {
+        // Given
+        EventValidator eventValidator = new EventValidator(EventValidator.Mode.COLLECT_ALL, List.of());
+        EventDto eventDto = eventDto();
+        eventDto.setBeginEventDateTime(null);
+        eventDto.setEndEventDateTime(null);
+
+        // When & Then
+        assertThat(eventValidator.isValid(eventDto)).isTrue();
+    }
+
+    private List<String> fields(Errors errors) {
+        return errors.getFieldErrors().stream().map(FieldError::getField).collect(Collectors.toList());
+    }
+
+    private EventDto eventDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 1, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .build();
+    }
+
+    private EventDto wrongEventDto() {
+        EventDto eventDto = eventDto();
+        eventDto.setBasePrice(200);
+        eventDto.setMaxPrice(100);
+        eventDto.setBeginEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0));
+        eventDto.setEndEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0));
+        eventDto.setCloseEnrollmentDateTime(LocalDateTime.of(2022, 9, 5, 12, 0));
+        return eventDto;
+    }
+}
@@ -0,0 +1,174 @@
+package me.hyungjun.springrestapi.events;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+@ActiveProfiles({"reactive", "test"})
+public class ReactiveEventControllerTests {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    ReactiveEventRepository reactiveEventRepository;
+
+    @Autowired
+    R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    // JPA doesn't run in the reactive profile, so nothing creates the schema the MVC nodes would own
+    @BeforeEach
+    public void createSchema() {
+        r2dbcEntityTemplate.getDatabaseClient()
+                .sql("create sequence if not exists event_seq start with 1 increment by 50")
+                .then()
+                .block();
+        r2dbcEntityTemplate.getDatabaseClient()
+                .sql("create table if not exists event (id integer not null, base_price integer not null, " +
+                        "begin_enrollment_date_time timestamp, begin_event_date_time timestamp, " +
+                        "close_enrollment_date_time timestamp, description varchar(255), end_event_date_time timestamp, " +
+                        "event_status varchar(255), free boolean not null, limit_of_enrollment integer not null, " +
+                        "location varchar(255), max_price integer not null, name varchar(255), " +
+                        "number_of_enrollment integer not null, offline boolean not null, version bigint, primary key (id))")
+                .then()
+                .block();
+    }
+
+    @Test
+    @DisplayName("리액티브 API로 정상적으로 이벤트를 생성하는 테스트")
+    public void createEvent() {
+        webTestClient.post().uri("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .bodyValue(generateEventDto("Spring"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists(HttpHeaders.LOCATION)
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("id").exists()
+                .jsonPath("free").isEqualTo(false)
+                .jsonPath("offline").isEqualTo(true)
+                .jsonPath("eventStatus").isEqualTo(EventStatus.DRAFT.name())
+                .jsonPath("_links.self").exists()
+                .jsonPath("_links.query-events").exists()
+                .jsonPath("_links.update-event").exists()
+                .jsonPath("_links.profile").exists();
+    }
+
+    @Test
+    @DisplayName("리액티브 API에서 입력값이 잘못된 경우 에러 응답을 받는 테스트")
+    public void createEvent_Bad_Request_Wrong_Input() {
+        EventDto eventDto = generateEventDto("Spring");
+        eventDto.setBasePrice(10000);
+
+        webTestClient.post().uri("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .bodyValue(eventDto)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("errors[0].objectName").exists()
+                .jsonPath("errors[0].defaultMessage").exists()
+                .jsonPath("_links.index").exists();
+    }
+
+    @Test
+    @DisplayName("리액티브 API로 이벤트 목록을 페이지 단위로 조회하기")
+    public void queryEvents() {
+        // Given
+        for (int i = 0; i < 30; i++) {
+            webTestClient.post().uri("/api/events")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(generateEventDto("event " + i))
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        // When & Then
+        webTestClient.get().uri("/api/events?page=1&size=10&sort=name,DESC")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("page.size").isEqualTo(10)
+                .jsonPath("page.number").isEqualTo(1)
+                .jsonPath("_embedded.eventList[0]._links.self").exists()
+                .jsonPath("_links.self").exists()
+                .jsonPath("_links.prev").exists()
+                .jsonPath("_links.next").exists()
+                .jsonPath("_links.profile").exists();
+    }
+
+    @Test
+    @DisplayName("리액티브 API로 이벤트를 조회하고 수정하기")
+    public void updateEvent() {
+        // Given
+        Event event = reactiveEventRepository.insert(Event.builder()
+                .name("event")
+                .description("test event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 1, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .eventStatus(EventStatus.DRAFT)
+                .build()).block();
+        EventDto eventDto = generateEventDto("Updated Event");
+
+        // When & Then
+        webTestClient.put().uri("/api/events/{id}", event.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"" + event.getVersion() + "\"")
+                .bodyValue(eventDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + (event.getVersion() + 1) + "\"")
+                .expectBody()
+                .jsonPath("name").isEqualTo("Updated Event")
+                .jsonPath("_links.self").exists()
+                .jsonPath("_links.profile").exists();
+
+        webTestClient.put().uri("/api/events/{id}", event.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"" + event.getVersion() + "\"")
+                .bodyValue(eventDto)
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    @DisplayName("리액티브 API에서 없는 이벤트 조회 시 404 응답받기")
+    public void getEvent404() {
+        webTestClient.get().uri("/api/events/11883")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private EventDto generateEventDto(String name) {
+        return EventDto.builder()
+                .name(name)
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 9, 1, 12, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 9, 2, 12, 0))
+                .beginEventDateTime(LocalDateTime.of(2022, 9, 3, 12, 0))
+                .endEventDateTime(LocalDateTime.of(2022, 9, 4, 12, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .location("강남역 D2 스타트업 팩토리")
+                .limitOfEnrollment(10)
+                .build();
+    }
+}